@@ -0,0 +1,89 @@
+package org.nu11ified.glitchSMP.benchmark;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.manager.CraftingLimiter;
+import org.nu11ified.glitchSMP.manager.GlitchManager;
+import org.nu11ified.glitchSMP.simulator.SimulatedPlugin;
+import org.nu11ified.glitchSMP.simulator.StubPlayers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the crafting limiter's pickup and craft checks.
+ * Both pickup paths are rejections, so the player's state is the same before and after every call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@SuppressWarnings("deprecation")
+public class CraftingLimiterBenchmark {
+    private CraftingLimiter craftingLimiter;
+    private GlitchManager glitchManager;
+    private GlitchItems glitchItems;
+    private Player player;
+    private ItemStack ownedItem;
+    private ItemStack newItem;
+    
+    /**
+     * Loads a player at the glitch limit
+     */
+    @Setup
+    public void setup() {
+        SimulatedPlugin simulated = new SimulatedPlugin();
+        glitchManager = simulated.getGlitchManager();
+        glitchItems = simulated.getGlitchItems();
+        craftingLimiter = simulated.getCraftingLimiter();
+        
+        List<GlitchType> owned = List.of(GlitchType.DREAM, GlitchType.MORPH);
+        player = simulated.loadPlayer("Bench", owned, owned, 2);
+        ownedItem = SimulatedPlugin.createGlitchItem(GlitchType.DREAM);
+        newItem = SimulatedPlugin.createGlitchItem(GlitchType.TELEPORT);
+    }
+    
+    /**
+     * Picks up a glitch the player already owns
+     * 
+     * @return Whether the pickup was cancelled
+     */
+    @Benchmark
+    public boolean pickupOwned() {
+        PlayerPickupItemEvent event = new PlayerPickupItemEvent(player, StubPlayers.createItem(ownedItem), 0);
+        craftingLimiter.onPlayerPickupItem(event);
+        return event.isCancelled();
+    }
+    
+    /**
+     * Picks up a new glitch while at the limit
+     * 
+     * @return Whether the pickup was cancelled
+     */
+    @Benchmark
+    public boolean pickupAtLimit() {
+        PlayerPickupItemEvent event = new PlayerPickupItemEvent(player, StubPlayers.createItem(newItem), 0);
+        craftingLimiter.onPlayerPickupItem(event);
+        return event.isCancelled();
+    }
+    
+    /**
+     * The checks a craft goes through before it is allowed.
+     * CraftItemEvent needs a live inventory view, so the handler's checks are measured directly.
+     * 
+     * @return Whether the craft would be cancelled
+     */
+    @Benchmark
+    public boolean craftCheck() {
+        return glitchItems.isGlitchItem(newItem) && glitchManager.getCraftedGlitchCount(player) >= 2;
+    }
+}
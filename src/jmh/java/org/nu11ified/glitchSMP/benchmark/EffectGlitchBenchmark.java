@@ -0,0 +1,54 @@
+package org.nu11ified.glitchSMP.benchmark;
+
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.nu11ified.glitchSMP.effect.EffectAmplifier;
+import org.nu11ified.glitchSMP.simulator.StubPlayers;
+import org.nu11ified.glitchSMP.simulator.StubPotionEffect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the Effect Glitch amplifying a player who drank everything they had
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EffectGlitchBenchmark {
+    // Roughly every effect a player can have at once
+    private static final int EFFECTS = 32;
+    
+    private Player player;
+    
+    /**
+     * Gives the player many effects, two thirds of them level I and the rest already stronger
+     */
+    @Setup
+    public void setup() {
+        List<PotionEffect> effects = new ArrayList<>(EFFECTS);
+        for (int i = 0; i < EFFECTS; i++) {
+            effects.add(StubPotionEffect.create(20 * 60 * (i + 1), i % 3 == 2 ? 1 : 0));
+        }
+        player = StubPlayers.createAffectedPlayer("Benchmark", effects);
+    }
+    
+    /**
+     * Amplifies the level I effects, one pass over the effects and one batched update
+     * 
+     * @return The amplified effect types, returned so the work is not optimised away
+     */
+    @Benchmark
+    public PotionEffectType[] amplify() {
+        return EffectAmplifier.amplifyEffects(player);
+    }
+}
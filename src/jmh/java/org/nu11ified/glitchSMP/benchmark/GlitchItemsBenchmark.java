@@ -0,0 +1,70 @@
+package org.nu11ified.glitchSMP.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.simulator.SimulatedPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for identifying glitch items, run on every right click and item pickup
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlitchItemsBenchmark {
+    private GlitchItems glitchItems;
+    private ItemStack glitchItem;
+    private ItemStack plainStar;
+    private ItemStack sword;
+    
+    /**
+     * Creates the items to identify
+     */
+    @Setup
+    public void setup() {
+        glitchItems = new SimulatedPlugin().getGlitchItems();
+        glitchItem = SimulatedPlugin.createGlitchItem(GlitchType.TELEPORT);
+        plainStar = SimulatedPlugin.createPlainItem(GlitchItems.GLITCH_MATERIAL);
+        sword = SimulatedPlugin.createPlainItem(Material.DIAMOND_SWORD);
+    }
+    
+    /**
+     * Identifies a tagged glitch item
+     * 
+     * @return The glitch type
+     */
+    @Benchmark
+    public GlitchType glitchItem() {
+        return glitchItems.getType(glitchItem);
+    }
+    
+    /**
+     * Rejects a nether star without item meta
+     * 
+     * @return The glitch type, null
+     */
+    @Benchmark
+    public GlitchType plainNetherStar() {
+        return glitchItems.getType(plainStar);
+    }
+    
+    /**
+     * Rejects an item of another material, the most common case
+     * 
+     * @return The glitch type, null
+     */
+    @Benchmark
+    public GlitchType otherItem() {
+        return glitchItems.getType(sword);
+    }
+}
@@ -0,0 +1,53 @@
+package org.nu11ified.glitchSMP.benchmark;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.nu11ified.glitchSMP.glitch.impl.InventoryGlitch;
+import org.nu11ified.glitchSMP.simulator.SimulatedPlugin;
+import org.nu11ified.glitchSMP.simulator.StubPlayers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the Inventory Glitch scramble, which has no cooldown and can be spammed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InventoryGlitchBenchmark {
+    // Hotbar and main inventory slots
+    private static final int STORAGE_SLOTS = 36;
+    
+    private PlayerInventory inventory;
+    
+    /**
+     * Fills a full inventory with distinct items and a few empty slots
+     */
+    @Setup
+    public void setup() {
+        Material[] materials = Material.values();
+        ItemStack[] storage = new ItemStack[STORAGE_SLOTS];
+        for (int slot = 0; slot < STORAGE_SLOTS; slot++) {
+            if (slot % 6 != 5) {
+                storage[slot] = SimulatedPlugin.createPlainItem(materials[slot + 1]);
+            }
+        }
+        inventory = StubPlayers.createInventory(storage);
+    }
+    
+    /**
+     * Scrambles the inventory once, one storage read and one storage write
+     */
+    @Benchmark
+    public void scramble() {
+        InventoryGlitch.scramble(inventory);
+    }
+}
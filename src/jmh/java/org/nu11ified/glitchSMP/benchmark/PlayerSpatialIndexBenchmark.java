@@ -0,0 +1,103 @@
+package org.nu11ified.glitchSMP.benchmark;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.nu11ified.glitchSMP.simulator.StubPlayers;
+import org.nu11ified.glitchSMP.spatial.PlayerSpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the player spatial index: radius queries and the move updates that keep it current
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PlayerSpatialIndexBenchmark {
+    // Players stand on a grid this many blocks apart
+    private static final int SPACING = 6;
+    
+    @Param({"100", "1000"})
+    private int players;
+    
+    private PlayerSpatialIndex index;
+    private Player center;
+    private final Player[] nearby = new Player[64];
+    
+    // Moves that stay inside a chunk, and moves that cross a chunk border, applied alternately
+    private PlayerMoveEvent[] withinChunk;
+    private PlayerMoveEvent[] acrossChunks;
+    private int move;
+    
+    /**
+     * Spreads players over a square grid and prepares the move events
+     */
+    @Setup
+    public void setup() {
+        World world = StubPlayers.createWorld("world");
+        index = new PlayerSpatialIndex();
+        
+        int side = (int) Math.ceil(Math.sqrt(players));
+        for (int i = 0; i < players; i++) {
+            Player player = StubPlayers.createPlayer("Bench" + i);
+            index.track(player, new Location(world, (i % side) * SPACING + 0.5, 64, (i / side) * SPACING + 0.5));
+            if (i == players / 2) {
+                center = player;
+            }
+        }
+        
+        Player mover = StubPlayers.createPlayer("Mover");
+        Location a = new Location(world, 3.5, 64, 3.5);
+        Location b = new Location(world, 4.5, 64, 3.5);
+        Location c = new Location(world, 16.5, 64, 3.5);
+        index.track(mover, a);
+        withinChunk = new PlayerMoveEvent[] {new PlayerMoveEvent(mover, a, b), new PlayerMoveEvent(mover, b, a)};
+        acrossChunks = new PlayerMoveEvent[] {new PlayerMoveEvent(mover, a, c), new PlayerMoveEvent(mover, c, a)};
+    }
+    
+    /**
+     * Finds the players within the Virus glitch's 6 block radius
+     * 
+     * @return The number of players found
+     */
+    @Benchmark
+    public int nearbySixBlocks() {
+        return index.collectNearby(center, 6, nearby);
+    }
+    
+    /**
+     * Finds the players within 20 blocks, which spans several chunks
+     * 
+     * @return The number of players found
+     */
+    @Benchmark
+    public int nearbyTwentyBlocks() {
+        return index.collectNearby(center, 20, nearby);
+    }
+    
+    /**
+     * Handles a move that stays in the same chunk, the common case
+     */
+    @Benchmark
+    public void moveWithinChunk() {
+        index.onPlayerMove(withinChunk[move++ & 1]);
+    }
+    
+    /**
+     * Handles a move that crosses into another chunk
+     */
+    @Benchmark
+    public void moveAcrossChunks() {
+        index.onPlayerMove(acrossChunks[move++ & 1]);
+    }
+}
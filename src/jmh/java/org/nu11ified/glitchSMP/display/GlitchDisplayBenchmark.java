@@ -0,0 +1,74 @@
+package org.nu11ified.glitchSMP.display;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.manager.GlitchManager;
+import org.nu11ified.glitchSMP.simulator.SimulatedPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for building a player's action bar.
+ * The per-refresh cost is the digest; rendering only happens when the digest changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlitchDisplayBenchmark {
+    private GlitchDisplay display;
+    private ActionBarRenderer renderer;
+    private Player player;
+    private long digest;
+    
+    /**
+     * Loads a player with one active glitch and one on cooldown
+     */
+    @Setup
+    public void setup() {
+        SimulatedPlugin simulated = new SimulatedPlugin();
+        GlitchManager glitchManager = simulated.getGlitchManager();
+        
+        List<GlitchType> glitches = List.of(GlitchType.DREAM, GlitchType.MORPH);
+        player = simulated.loadPlayer("Bench", glitches, glitches, 2);
+        glitchManager.activateGlitch(player, simulated.getComponents().getGlitchFactory().getGlitch(GlitchType.DREAM));
+        
+        // End MORPH straight away so it sits on cooldown; the wheel never ticks here, so DREAM stays active
+        Glitch morph = simulated.getComponents().getGlitchFactory().getGlitch(GlitchType.MORPH);
+        glitchManager.activateGlitch(player, morph);
+        glitchManager.deactivateGlitch(player, morph);
+        
+        display = simulated.getGlitchDisplay();
+        renderer = new ActionBarRenderer();
+        digest = display.computeDigest(player);
+    }
+    
+    /**
+     * Computes what a player's action bar shows, done for every player once per refresh cycle
+     * 
+     * @return The digest
+     */
+    @Benchmark
+    public long computeDigest() {
+        return display.computeDigest(player);
+    }
+    
+    /**
+     * Renders an action bar, done only when its digest changed
+     * 
+     * @return The action bar component
+     */
+    @Benchmark
+    public Component render() {
+        return renderer.render(digest);
+    }
+}
@@ -0,0 +1,109 @@
+package org.nu11ified.glitchSMP.manager;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.player.PlayerToggleSneakEvent;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.simulator.SimulatedPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for glitch activation, the offhand key handler and equipped glitch lookups.
+ * Lives in the manager package so the ready path can clear the cooldown it just started.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlitchManagerBenchmark {
+    private GlitchManager glitchManager;
+    private Player player;
+    private Glitch readyGlitch;
+    private Glitch cooldownGlitch;
+    private PlayerGlitchState state;
+    private ActivationManager activationManager;
+    private PlayerSwapHandItemsEvent swapEvent;
+    
+    /**
+     * Loads a player with two placeholder glitches equipped, one of them on cooldown
+     * 
+     * @throws ReflectiveOperationException If the player's state could not be looked up
+     */
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        SimulatedPlugin simulated = new SimulatedPlugin();
+        glitchManager = simulated.getGlitchManager();
+        
+        List<GlitchType> glitches = List.of(GlitchType.DREAM, GlitchType.MORPH);
+        player = simulated.loadPlayer("Bench", glitches, glitches, 2);
+        readyGlitch = simulated.getComponents().getGlitchFactory().getGlitch(GlitchType.DREAM);
+        cooldownGlitch = simulated.getComponents().getGlitchFactory().getGlitch(GlitchType.MORPH);
+        
+        Field statesField = GlitchManager.class.getDeclaredField("playerStates");
+        statesField.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<UUID, PlayerGlitchState> states = (Map<UUID, PlayerGlitchState>) statesField.get(glitchManager);
+        state = states.get(player.getUniqueId());
+        
+        glitchManager.activateGlitch(player, cooldownGlitch);
+        
+        // Sneaking selects the left slot, which holds the glitch on cooldown
+        activationManager = simulated.getActivationManager();
+        activationManager.onPlayerToggleSneak(new PlayerToggleSneakEvent(player, true));
+        ItemStack emptyHand = SimulatedPlugin.createPlainItem(Material.AIR);
+        swapEvent = new PlayerSwapHandItemsEvent(player, emptyHand, emptyHand);
+    }
+    
+    /**
+     * Activates a glitch that is off cooldown: effect, persistence and timer scheduling
+     * 
+     * @return The activation result
+     */
+    @Benchmark
+    public ActivationResult activateReady() {
+        state.setLastActivationTime(GlitchType.DREAM, 0);
+        return glitchManager.activateGlitch(player, readyGlitch);
+    }
+    
+    /**
+     * Attempts to activate a glitch that is on cooldown, the path spammed clicks take
+     * 
+     * @return The activation result
+     */
+    @Benchmark
+    public ActivationResult activateOnCooldown() {
+        return glitchManager.activateGlitch(player, cooldownGlitch);
+    }
+    
+    /**
+     * Presses the offhand key on a glitch that is on cooldown: slot lookup, activation attempt and feedback
+     */
+    @Benchmark
+    public void swapOnCooldown() {
+        activationManager.onPlayerSwapHandItems(swapEvent);
+    }
+    
+    /**
+     * Gets a player's equipped glitches
+     * 
+     * @return The equipped glitches
+     */
+    @Benchmark
+    public List<Glitch> getEquippedGlitches() {
+        return glitchManager.getEquippedGlitches(player);
+    }
+}
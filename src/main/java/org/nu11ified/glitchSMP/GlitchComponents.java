@@ -0,0 +1,367 @@
+package org.nu11ified.glitchSMP;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.nu11ified.glitchSMP.combat.CombatRouter;
+import org.nu11ified.glitchSMP.crash.LoginThrottle;
+import org.nu11ified.glitchSMP.display.GlitchDisplay;
+import org.nu11ified.glitchSMP.dupe.DupeRules;
+import org.nu11ified.glitchSMP.effect.EffectAmplifier;
+import org.nu11ified.glitchSMP.fakeblock.FakeBlockRegistry;
+import org.nu11ified.glitchSMP.freeze.FreezeLock;
+import org.nu11ified.glitchSMP.glide.GlideTracker;
+import org.nu11ified.glitchSMP.glitch.GlitchFactory;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+import org.nu11ified.glitchSMP.manager.ActivationManager;
+import org.nu11ified.glitchSMP.manager.CraftingLimiter;
+import org.nu11ified.glitchSMP.manager.GlitchManager;
+import org.nu11ified.glitchSMP.perf.PerfMonitor;
+import org.nu11ified.glitchSMP.redstone.RedstoneSuppressor;
+import org.nu11ified.glitchSMP.scheduler.TimingWheel;
+import org.nu11ified.glitchSMP.spatial.PlayerSpatialIndex;
+import org.nu11ified.glitchSMP.storage.PlayerDataStore;
+import org.nu11ified.glitchSMP.weapon.WeaponLock;
+
+/**
+ * Creates and wires the plugin's glitch components.
+ * The plugin builds them when it is enabled and the load simulator builds them on a stand-in server,
+ * so both run the same wiring.
+ */
+public final class GlitchComponents {
+    private final Plugin plugin;
+    private final PerfMonitor perfMonitor;
+    private final PlayerDataStore playerDataStore;
+    private final TimingWheel timingWheel;
+    private final BukkitTask timingWheelTask;
+    private final CombatRouter combatRouter;
+    private final PlayerSpatialIndex playerSpatialIndex;
+    private final RedstoneSuppressor redstoneSuppressor;
+    private final FreezeLock freezeLock;
+    private final WeaponLock weaponLock;
+    private final LoginThrottle loginThrottle;
+    private final GlideTracker glideTracker;
+    private final EffectAmplifier effectAmplifier;
+    private final FakeBlockRegistry fakeBlockRegistry;
+    private final GlitchFactory glitchFactory;
+    private final GlitchItems glitchItems;
+    private final GlitchManager glitchManager;
+    private final BukkitTask dataSaveTask;
+    private final GlitchDisplay glitchDisplay;
+    private final ActivationManager activationManager;
+    private final CraftingLimiter craftingLimiter;
+    
+    // Replaced as a whole on reload, so the Dupe Glitch always sees one complete rule set
+    private volatile DupeRules dupeRules;
+    
+    /**
+     * Constructor for GlitchComponents.
+     * Components are created in dependency order and start their repeating tasks right away;
+     * their listeners are registered separately by {@link #registerEvents()}.
+     * 
+     * @param plugin The plugin the components and their tasks belong to
+     * @param config The plugin configuration
+     * @param playerDataStore The started store player data is loaded from and saved to
+     */
+    public GlitchComponents(Plugin plugin, ConfigurationSection config, PlayerDataStore playerDataStore) {
+        this.plugin = plugin;
+        this.playerDataStore = playerDataStore;
+        
+        // Measure every listener and task created below
+        perfMonitor = new PerfMonitor(
+            plugin,
+            config.getBoolean("perf.enabled", true),
+            config.getBoolean("perf.track-allocations", false)
+        );
+        
+        // Drive every glitch duration and cooldown timer from one repeating task
+        timingWheel = new TimingWheel(plugin.getLogger());
+        timingWheelTask = plugin.getServer().getScheduler().runTaskTimer(plugin, perfMonitor.wrap("TimingWheel.tick", timingWheel::tick), 1L, 1L);
+        
+        // Glitch definitions register their damage handlers with the router, so it comes first
+        combatRouter = new CombatRouter();
+        
+        // Radius-based glitches look up nearby players here instead of scanning entities
+        playerSpatialIndex = new PlayerSpatialIndex();
+        
+        // World-wide redstone suppression for the Redstone Glitch
+        redstoneSuppressor = new RedstoneSuppressor(
+            plugin,
+            config.getInt("glitches.redstone.replay-per-tick", 256),
+            config.getInt("glitches.redstone.max-deferred", 65536)
+        );
+        
+        // Movement and item lock for the Freeze Glitch, which blocks frozen attackers through the router
+        freezeLock = new FreezeLock(combatRouter);
+        
+        // Weapon disable deadlines for the Item Glitch, checked through the router
+        weaponLock = new WeaponLock(combatRouter, timingWheel);
+        
+        // Login refusals for the Crash Glitch, checked on the async login threads
+        loginThrottle = new LoginThrottle();
+        
+        // Active gliders of the Glide Glitch, swept by one task while anyone glides
+        glideTracker = new GlideTracker(plugin, perfMonitor);
+        
+        // Effects amplified by the Effect Glitch, kept until they are reverted
+        effectAmplifier = new EffectAmplifier();
+        
+        // Client-side blocks for the Fake Block Glitch, expired on the timing wheel
+        fakeBlockRegistry = new FakeBlockRegistry(
+            timingWheel,
+            config.getLong("glitches.fake-block.max-lifetime-seconds", 60) * 20
+        );
+        
+        glitchFactory = new GlitchFactory(this);
+        glitchItems = new GlitchItems(plugin);
+        dupeRules = DupeRules.compile(config.getConfigurationSection("glitches.dupe"), glitchItems, plugin.getLogger());
+        glitchManager = new GlitchManager(this, playerDataStore, timingWheel);
+        glitchManager.addDiffuseListener(glideTracker);
+        
+        // Snapshot changed player data once per flush interval instead of on every change
+        long saveIntervalTicks = Math.max(1, config.getLong("storage.flush-interval-seconds", 30) * 20);
+        dataSaveTask = plugin.getServer().getScheduler().runTaskTimer(plugin,
+            perfMonitor.wrap("GlitchManager.saveDirty", glitchManager::saveDirty), saveIntervalTicks, saveIntervalTicks);
+        
+        glitchDisplay = new GlitchDisplay(this, glitchManager, config.getInt("display.slices", 10));
+        activationManager = new ActivationManager(this, glitchManager);
+        craftingLimiter = new CraftingLimiter(this, glitchManager);
+    }
+    
+    /**
+     * Registers the event listeners of every component through the performance monitor
+     */
+    public void registerEvents() {
+        perfMonitor.registerEvents(combatRouter);
+        perfMonitor.registerEvents(playerSpatialIndex);
+        perfMonitor.registerEvents(redstoneSuppressor);
+        perfMonitor.registerEvents(freezeLock);
+        perfMonitor.registerEvents(fakeBlockRegistry);
+        perfMonitor.registerEvents(weaponLock);
+        perfMonitor.registerEvents(loginThrottle);
+        perfMonitor.registerEvents(glideTracker);
+        perfMonitor.registerEvents(activationManager);
+        perfMonitor.registerEvents(craftingLimiter);
+    }
+    
+    /**
+     * Rebuilds the settings that can change without a restart
+     * 
+     * @param config The reloaded plugin configuration
+     */
+    public void reload(ConfigurationSection config) {
+        dupeRules = DupeRules.compile(config.getConfigurationSection("glitches.dupe"), glitchItems, plugin.getLogger());
+    }
+    
+    /**
+     * Ends every running glitch effect, cleans up online players and stops the repeating tasks,
+     * for when the plugin is disabled. Player data is saved but not flushed; the store is shut down by its owner.
+     */
+    public void shutdown() {
+        // Restart any suppressed redstone first; no replay task can be scheduled while disabling
+        redstoneSuppressor.shutdown();
+        
+        // Show players the real blocks again
+        fakeBlockRegistry.shutdown();
+        
+        // Bring gliders down before the sweep task stops
+        glideTracker.shutdown();
+        
+        // Stop displaying glitches for all online players
+        glitchDisplay.stopDisplayingForAll();
+        
+        // Clean up player data
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            glitchManager.cleanupPlayerData(player);
+            activationManager.cleanupPlayerData(player);
+            craftingLimiter.cleanupPlayerData(player);
+        }
+        
+        // Stop the timing wheel once every player's timers have been cancelled
+        timingWheelTask.cancel();
+        
+        // Every online player was saved on cleanup, so nothing is left for the save task
+        dataSaveTask.cancel();
+    }
+    
+    /**
+     * Gets the plugin the components belong to
+     * 
+     * @return The plugin
+     */
+    public Plugin getPlugin() {
+        return plugin;
+    }
+    
+    /**
+     * Gets the glitch manager instance
+     * 
+     * @return The glitch manager
+     */
+    public GlitchManager getGlitchManager() {
+        return glitchManager;
+    }
+    
+    /**
+     * Gets the glitch factory instance
+     * 
+     * @return The glitch factory
+     */
+    public GlitchFactory getGlitchFactory() {
+        return glitchFactory;
+    }
+    
+    /**
+     * Gets the glitch item helper instance
+     * 
+     * @return The glitch item helper
+     */
+    public GlitchItems getGlitchItems() {
+        return glitchItems;
+    }
+    
+    /**
+     * Gets the glitch display instance
+     * 
+     * @return The glitch display
+     */
+    public GlitchDisplay getGlitchDisplay() {
+        return glitchDisplay;
+    }
+    
+    /**
+     * Gets the activation manager instance
+     * 
+     * @return The activation manager
+     */
+    public ActivationManager getActivationManager() {
+        return activationManager;
+    }
+    
+    /**
+     * Gets the crafting limiter instance
+     * 
+     * @return The crafting limiter
+     */
+    public CraftingLimiter getCraftingLimiter() {
+        return craftingLimiter;
+    }
+    
+    /**
+     * Gets the combat router damage-affecting glitches register with
+     * 
+     * @return The combat router
+     */
+    public CombatRouter getCombatRouter() {
+        return combatRouter;
+    }
+    
+    /**
+     * Gets the timing wheel glitch timers are scheduled on
+     * 
+     * @return The timing wheel
+     */
+    public TimingWheel getTimingWheel() {
+        return timingWheel;
+    }
+    
+    /**
+     * Gets the monitor listener and task timings are recorded in
+     * 
+     * @return The performance monitor
+     */
+    public PerfMonitor getPerfMonitor() {
+        return perfMonitor;
+    }
+    
+    /**
+     * Gets the index of online player positions used by radius-based glitches
+     * 
+     * @return The player spatial index
+     */
+    public PlayerSpatialIndex getPlayerSpatialIndex() {
+        return playerSpatialIndex;
+    }
+    
+    /**
+     * Gets the suppressor the Redstone Glitch switches world redstone off with
+     * 
+     * @return The redstone suppressor
+     */
+    public RedstoneSuppressor getRedstoneSuppressor() {
+        return redstoneSuppressor;
+    }
+    
+    /**
+     * Gets the lock the Freeze Glitch holds frozen players in place with
+     * 
+     * @return The freeze lock
+     */
+    public FreezeLock getFreezeLock() {
+        return freezeLock;
+    }
+    
+    /**
+     * Gets the lock the Item Glitch disables weapons with
+     * 
+     * @return The weapon lock
+     */
+    public WeaponLock getWeaponLock() {
+        return weaponLock;
+    }
+    
+    /**
+     * Gets the throttle the Crash Glitch refuses logins with
+     * 
+     * @return The login throttle
+     */
+    public LoginThrottle getLoginThrottle() {
+        return loginThrottle;
+    }
+    
+    /**
+     * Gets the tracker the Glide Glitch keeps players gliding with
+     * 
+     * @return The glide tracker
+     */
+    public GlideTracker getGlideTracker() {
+        return glideTracker;
+    }
+    
+    /**
+     * Gets the amplifier the Effect Glitch raises and reverts potion effects with
+     * 
+     * @return The effect amplifier
+     */
+    public EffectAmplifier getEffectAmplifier() {
+        return effectAmplifier;
+    }
+    
+    /**
+     * Gets the registry of client-side blocks placed by the Fake Block Glitch
+     * 
+     * @return The fake block registry
+     */
+    public FakeBlockRegistry getFakeBlockRegistry() {
+        return fakeBlockRegistry;
+    }
+    
+    /**
+     * Gets the compiled rules for which items the Dupe Glitch refuses to duplicate
+     * 
+     * @return The dupe rules
+     */
+    public DupeRules getDupeRules() {
+        return dupeRules;
+    }
+    
+    /**
+     * Gets the player data store instance
+     * 
+     * @return The player data store
+     */
+    public PlayerDataStore getPlayerDataStore() {
+        return playerDataStore;
+    }
+}
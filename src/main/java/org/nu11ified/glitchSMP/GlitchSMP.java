@@ -3,77 +3,88 @@ package org.nu11ified.glitchSMP;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.nu11ified.glitchSMP.command.GlitchCommand;
-import org.nu11ified.glitchSMP.display.GlitchDisplay;
-import org.nu11ified.glitchSMP.glitch.GlitchFactory;
-import org.nu11ified.glitchSMP.manager.GlitchManager;
 import org.nu11ified.glitchSMP.manager.RecipeManager;
-import org.nu11ified.glitchSMP.manager.ActivationManager;
-import org.nu11ified.glitchSMP.manager.CraftingLimiter;
+import org.nu11ified.glitchSMP.storage.MappedStorageBackend;
+import org.nu11ified.glitchSMP.storage.PlayerDataStore;
+import org.nu11ified.glitchSMP.storage.PlayerRecord;
+import org.nu11ified.glitchSMP.storage.StorageBackend;
+import org.nu11ified.glitchSMP.storage.YamlStorageBackend;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.logging.Level;
 
 /**
  * Main plugin class for Glitch SMP.
  */
 public final class GlitchSMP extends JavaPlugin implements Listener {
-    private GlitchManager glitchManager;
-    private GlitchFactory glitchFactory;
-    private GlitchDisplay glitchDisplay;
+    private GlitchComponents components;
     private RecipeManager recipeManager;
-    private ActivationManager activationManager;
-    private CraftingLimiter craftingLimiter;
-
+    private PlayerDataStore playerDataStore;
+    
     @Override
     public void onEnable() {
+        // Load configuration
+        saveDefaultConfig();
+        
+        // Open player data storage before anything can read or write it
+        playerDataStore = new PlayerDataStore(
+            createStorageBackend(),
+            getLogger(),
+            getConfig().getLong("storage.flush-interval-seconds", 30) * 1000,
+            getConfig().getInt("storage.batch-size", 64)
+        );
+        try {
+            playerDataStore.start();
+        } catch (IOException e) {
+            getLogger().log(Level.SEVERE, "Failed to open player data storage, disabling Glitch SMP", e);
+            playerDataStore = null;
+            getServer().getPluginManager().disablePlugin(this);
+            return;
+        }
+        
         // Initialize components
-        glitchFactory = new GlitchFactory(this);
-        glitchManager = new GlitchManager(this);
-        glitchDisplay = new GlitchDisplay(this, glitchManager);
+        components = new GlitchComponents(this, getConfig(), playerDataStore);
         recipeManager = new RecipeManager(this);
-        activationManager = new ActivationManager(this, glitchManager);
-        craftingLimiter = new CraftingLimiter(this, glitchManager);
         
         // Load and register crafting recipes
         recipeManager.loadRecipes();
         
         // Register command
-        GlitchCommand glitchCommand = new GlitchCommand(this, glitchManager, glitchFactory, craftingLimiter);
+        GlitchCommand glitchCommand = new GlitchCommand(this, components.getGlitchManager(), components.getGlitchFactory(), components.getCraftingLimiter());
         getCommand("glitch").setExecutor(glitchCommand);
         getCommand("glitch").setTabCompleter(glitchCommand);
         
         // Register event listeners
-        getServer().getPluginManager().registerEvents(this, this);
-        getServer().getPluginManager().registerEvents(activationManager, this);
-        getServer().getPluginManager().registerEvents(craftingLimiter, this);
+        components.getPerfMonitor().registerEvents(this);
+        components.registerEvents();
+        
+        // Load data for players that are already online (e.g. after a reload)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            components.getPlayerSpatialIndex().track(player, player.getLocation());
+            loadPlayerDataAsync(player);
+        }
         
         // Start displaying glitches for all online players
-        glitchDisplay.startDisplayingForAll();
+        components.getGlitchDisplay().startDisplayingForAll();
         
         // Log startup
         getLogger().info("Glitch SMP has been enabled!");
     }
-
+    
     @Override
     public void onDisable() {
-        // Stop displaying glitches for all online players
-        if (glitchDisplay != null) {
-            glitchDisplay.stopDisplayingForAll();
-        }
-        
-        // Clean up player data
-        if (glitchManager != null) {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                glitchManager.cleanupPlayerData(player);
-                if (activationManager != null) {
-                    activationManager.cleanupPlayerData(player);
-                }
-                if (craftingLimiter != null) {
-                    craftingLimiter.cleanupPlayerData(player);
-                }
-            }
+        // End running glitch effects, clean up online players and stop the repeating tasks
+        if (components != null) {
+            components.shutdown();
         }
         
         // Unregister crafting recipes
@@ -81,82 +92,112 @@ public final class GlitchSMP extends JavaPlugin implements Listener {
             recipeManager.unregisterRecipes();
         }
         
+        // Write any pending player data before the server goes down
+        if (playerDataStore != null) {
+            playerDataStore.shutdown(getConfig().getLong("storage.shutdown-timeout-millis", 10000));
+        }
+        
         // Log shutdown
         getLogger().info("Glitch SMP has been disabled!");
     }
     
     /**
-     * Event handler for player join
-     * Starts displaying glitches for the player
+     * Reloads config.yml and rebuilds the settings that can change without a restart
      */
-    @EventHandler
-    public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        glitchDisplay.startDisplaying(player);
+    public void reloadGlitchConfig() {
+        reloadConfig();
+        components.reload(getConfig());
     }
     
     /**
-     * Event handler for player quit
-     * Stops displaying glitches for the player and cleans up their data
-     */
-    @EventHandler
-    public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        glitchDisplay.stopDisplaying(player);
-        glitchManager.cleanupPlayerData(player);
-    }
-    
-    /**
-     * Gets the glitch manager instance
+     * Creates the storage backend selected in the config
      * 
-     * @return The glitch manager
+     * @return The storage backend
      */
-    public GlitchManager getGlitchManager() {
-        return glitchManager;
+    private StorageBackend createStorageBackend() {
+        String backend = getConfig().getString("storage.backend", "yaml");
+        
+        switch (backend.toLowerCase()) {
+            case "yaml":
+                return new YamlStorageBackend(new File(getDataFolder(), "playerdata"), getLogger());
+            case "mapped":
+                return new MappedStorageBackend(new File(getDataFolder(), "playerdata.dat"));
+            default:
+                getLogger().warning("Unknown storage backend " + backend + ", falling back to yaml");
+                return new YamlStorageBackend(new File(getDataFolder(), "playerdata"), getLogger());
+        }
     }
     
     /**
-     * Gets the glitch factory instance
+     * Loads a player's glitch data off the main thread and applies it once it is ready
      * 
-     * @return The glitch factory
+     * @param player The player to load data for
      */
-    public GlitchFactory getGlitchFactory() {
-        return glitchFactory;
+    private void loadPlayerDataAsync(Player player) {
+        UUID playerUUID = player.getUniqueId();
+        playerDataStore.load(playerUUID).whenComplete((record, error) -> {
+            if (error != null) {
+                getLogger().log(Level.SEVERE, "Failed to load glitch data for " + player.getName(), error);
+                return;
+            }
+            
+            // Hop back to the main thread before touching the managers
+            Bukkit.getScheduler().runTask(this, components.getPerfMonitor().wrap("GlitchSMP.applyPlayerData", () -> {
+                if (player.isOnline()) {
+                    components.getGlitchManager().loadPlayerData(player, record);
+                }
+            }));
+        });
     }
     
     /**
-     * Gets the glitch display instance
-     * 
-     * @return The glitch display
+     * Event handler for async pre-login
+     * Loads the player's glitch data on the login thread so joining never waits on the disk
      */
-    public GlitchDisplay getGlitchDisplay() {
-        return glitchDisplay;
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        
+        playerDataStore.preload(event.getUniqueId(), getConfig().getLong("storage.load-timeout-millis", 2000));
     }
     
     /**
-     * Gets the recipe manager instance
-     * 
-     * @return The recipe manager
+     * Event handler for player join
+     * Applies the player's stored data and starts displaying glitches for them
      */
-    public RecipeManager getRecipeManager() {
-        return recipeManager;
+    @EventHandler
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        
+        PlayerRecord record = playerDataStore.takePreloaded(player.getUniqueId());
+        if (record != null) {
+            components.getGlitchManager().loadPlayerData(player, record);
+        } else {
+            loadPlayerDataAsync(player);
+        }
+        
+        components.getGlitchDisplay().startDisplaying(player);
     }
     
     /**
-     * Gets the activation manager instance
-     * 
-     * @return The activation manager
+     * Event handler for player quit
+     * Stops displaying glitches for the player and cleans up their data
      */
-    public ActivationManager getActivationManager() {
-        return activationManager;
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+        components.getGlitchDisplay().stopDisplaying(player);
+        components.getGlitchManager().cleanupPlayerData(player);
     }
     
     /**
-     * Gets the crafting limiter instance
+     * Gets the plugin's glitch components
      * 
-     * @return The crafting limiter
+     * @return The components, or null while the plugin is not enabled
      */
-    public CraftingLimiter getCraftingLimiter() {
-        return craftingLimiter;
+    public GlitchComponents getComponents() {
+        return components;
     }
 }
@@ -0,0 +1,28 @@
+package org.nu11ified.glitchSMP.combat;
+
+/**
+ * Damage-affecting glitch effects that can be active on an entity.
+ * Each effect is one bit in the entity's effect mask kept by the {@link CombatRouter}.
+ */
+public enum CombatEffect {
+    // Cancels all damage taken
+    IMMUNITY,
+    
+    // Chance to strike nearby entities with lightning when taking damage
+    HEROBRINE,
+    
+    // Weapons are disabled, so hits deal no weapon damage
+    ITEM,
+    
+    // Frozen entities can't attack
+    FREEZE;
+    
+    /**
+     * Gets the bit of this effect in an effect mask
+     * 
+     * @return The bit
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,29 @@
+package org.nu11ified.glitchSMP.combat;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+
+/**
+ * Handles damage events for one {@link CombatEffect}.
+ * The {@link CombatRouter} only calls a handler when its effect is active on the entity involved.
+ */
+public interface CombatEffectHandler {
+    /**
+     * Called when an entity with the effect active takes damage
+     * 
+     * @param event The damage event
+     * @param victim The damaged entity
+     */
+    default void onVictimDamaged(EntityDamageEvent event, Entity victim) {
+    }
+    
+    /**
+     * Called when an entity with the effect active deals damage, directly or through a projectile
+     * 
+     * @param event The damage event
+     * @param attacker The attacking entity (the shooter for projectiles)
+     */
+    default void onAttackerDamage(EntityDamageByEntityEvent event, Entity attacker) {
+    }
+}
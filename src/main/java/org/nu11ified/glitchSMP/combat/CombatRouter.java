@@ -0,0 +1,166 @@
+package org.nu11ified.glitchSMP.combat;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityDamageEvent;
+import org.bukkit.projectiles.ProjectileSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single permanent damage listener for every damage-affecting glitch.
+ * Glitches flag the entities their effect is active on instead of registering listeners of their own,
+ * and each damage event is dispatched only to the handlers of the effects active on the entities involved.
+ * While no effect is active anywhere, a damage event costs one field read.
+ * Not thread safe: all calls must be made on the main thread.
+ */
+public class CombatRouter implements Listener {
+    private static final CombatEffect[] EFFECTS = CombatEffect.values();
+    
+    // Handlers indexed by effect ordinal, null if the effect has no handler
+    private final CombatEffectHandler[] handlers = new CombatEffectHandler[EFFECTS.length];
+    
+    // Map of entity UUIDs to the mask of effects active on them; entities without effects have no entry
+    private final Map<UUID, Integer> effectMasks = new HashMap<>();
+    
+    /**
+     * Registers the handler of an effect, replacing any previous one
+     * 
+     * @param effect The effect
+     * @param handler The handler to dispatch to while the effect is active
+     */
+    public void registerHandler(CombatEffect effect, CombatEffectHandler handler) {
+        handlers[effect.ordinal()] = handler;
+    }
+    
+    /**
+     * Marks an effect as active on an entity
+     * 
+     * @param entityUUID The UUID of the entity
+     * @param effect The effect
+     */
+    public void addEffect(UUID entityUUID, CombatEffect effect) {
+        effectMasks.merge(entityUUID, effect.bit(), (a, b) -> a | b);
+    }
+    
+    /**
+     * Marks an effect as no longer active on an entity
+     * 
+     * @param entityUUID The UUID of the entity
+     * @param effect The effect
+     */
+    public void removeEffect(UUID entityUUID, CombatEffect effect) {
+        // Returning null drops the entry once the last effect is gone
+        effectMasks.computeIfPresent(entityUUID, (uuid, mask) -> {
+            int remaining = mask & ~effect.bit();
+            return remaining != 0 ? remaining : null;
+        });
+    }
+    
+    /**
+     * Checks if an effect is active on an entity
+     * 
+     * @param entityUUID The UUID of the entity
+     * @param effect The effect
+     * @return true if the effect is active, false otherwise
+     */
+    public boolean hasEffect(UUID entityUUID, CombatEffect effect) {
+        return (getEffectMask(entityUUID) & effect.bit()) != 0;
+    }
+    
+    /**
+     * Gets the mask of effects active on an entity
+     * 
+     * @param entityUUID The UUID of the entity
+     * @return The effect mask, 0 if no effects are active
+     */
+    public int getEffectMask(UUID entityUUID) {
+        if (effectMasks.isEmpty()) {
+            return 0;
+        }
+        
+        Integer mask = effectMasks.get(entityUUID);
+        return mask != null ? mask : 0;
+    }
+    
+    /**
+     * Removes every effect from an entity
+     * 
+     * @param entityUUID The UUID of the entity
+     */
+    public void clearEffects(UUID entityUUID) {
+        effectMasks.remove(entityUUID);
+    }
+    
+    /**
+     * Event handler for entity damage.
+     * Runs at HIGH so protection plugins have already had their say, and skips events they cancelled.
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityDamage(EntityDamageEvent event) {
+        // Common case: nobody has anything active
+        if (effectMasks.isEmpty()) {
+            return;
+        }
+        
+        // Effects on the damaged entity
+        Entity victim = event.getEntity();
+        int victimMask = getEffectMask(victim.getUniqueId());
+        if (victimMask != 0) {
+            for (CombatEffect effect : EFFECTS) {
+                CombatEffectHandler handler = handlers[effect.ordinal()];
+                if ((victimMask & effect.bit()) != 0 && handler != null) {
+                    handler.onVictimDamaged(event, victim);
+                    if (event.isCancelled()) {
+                        return;
+                    }
+                }
+            }
+        }
+        
+        // Effects on the attacker, if there is one
+        if (!(event instanceof EntityDamageByEntityEvent)) {
+            return;
+        }
+        
+        EntityDamageByEntityEvent byEntityEvent = (EntityDamageByEntityEvent) event;
+        Entity attacker = getAttacker(byEntityEvent);
+        if (attacker == null) {
+            return;
+        }
+        
+        int attackerMask = getEffectMask(attacker.getUniqueId());
+        if (attackerMask != 0) {
+            for (CombatEffect effect : EFFECTS) {
+                CombatEffectHandler handler = handlers[effect.ordinal()];
+                if ((attackerMask & effect.bit()) != 0 && handler != null) {
+                    handler.onAttackerDamage(byEntityEvent, attacker);
+                    if (event.isCancelled()) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets the entity responsible for a hit, resolving projectiles to their shooter
+     * 
+     * @param event The damage event
+     * @return The attacking entity, or null if a projectile was not shot by an entity
+     */
+    private Entity getAttacker(EntityDamageByEntityEvent event) {
+        Entity damager = event.getDamager();
+        if (damager instanceof Projectile) {
+            ProjectileSource shooter = ((Projectile) damager).getShooter();
+            return shooter instanceof Entity ? (Entity) shooter : null;
+        }
+        return damager;
+    }
+}
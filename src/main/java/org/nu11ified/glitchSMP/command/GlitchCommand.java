@@ -1,7 +1,8 @@
 package org.nu11ified.glitchSMP.command;
 
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -13,7 +14,13 @@ import org.nu11ified.glitchSMP.glitch.GlitchFactory;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
 import org.nu11ified.glitchSMP.manager.GlitchManager;
 import org.nu11ified.glitchSMP.manager.CraftingLimiter;
+import org.nu11ified.glitchSMP.message.GlitchMessage;
+import org.nu11ified.glitchSMP.message.Messages;
+import org.nu11ified.glitchSMP.message.NumberedMessage;
+import org.nu11ified.glitchSMP.perf.LatencyHistogram;
+import org.nu11ified.glitchSMP.perf.PerfMonitor;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +30,43 @@ import java.util.stream.Collectors;
  * Command executor for the glitch command.
  */
 public class GlitchCommand implements CommandExecutor, TabCompleter {
+    private static final Component HELP_HEADER = Component.text("Glitch SMP Commands:", NamedTextColor.YELLOW);
+    private static final Component[] HELP_COMMANDS = {
+        helpLine("/glitch give <player> <glitch>", "Gives a glitch to a player"),
+        helpLine("/glitch equip <glitch>", "Equips a glitch"),
+        helpLine("/glitch unequip <glitch>", "Unequips a glitch"),
+        helpLine("/glitch list [all]", "Lists your glitches or all available glitches"),
+        helpLine("/glitch help", "Shows this help message")
+    };
+    private static final Component HELP_RESET = helpLine("/glitch reset <player>", "Resets player's glitch crafting count");
+    private static final Component HELP_STATUS = helpLine("/glitch status <player>", "Shows player's glitch status");
+    private static final Component HELP_PERF = helpLine("/glitch perf [reset|dump]", "Shows, resets or saves listener and task timings");
+    private static final Component HELP_RELOAD = helpLine("/glitch reload", "Reloads config.yml");
+    private static final Component[] HELP_ACTIVATION = {
+        Component.text("Glitch Activation:", NamedTextColor.LIGHT_PURPLE),
+        Component.text("• Right-click glitch items to obtain them", NamedTextColor.GRAY),
+        Component.text("• Use offhand keybind (F) to activate right slot glitch", NamedTextColor.GRAY),
+        Component.text("• Crouch + offhand keybind to activate left slot glitch", NamedTextColor.GRAY),
+        Component.text("• Craft glitches using recipes in recipes.yml", NamedTextColor.GRAY),
+        Component.text("• Limited to 2 glitches per player (drops on death)", NamedTextColor.GRAY)
+    };
+    
+    private static final Component AVAILABLE_HEADER = Component.text("Available Glitch Types:", NamedTextColor.YELLOW);
+    private static final Component YOUR_GLITCHES_HEADER = Component.text("Your Glitches:", NamedTextColor.YELLOW);
+    private static final Component OWNED_HEADER = Component.text("Owned:", NamedTextColor.YELLOW);
+    private static final Component STATUS_OWNED_HEADER = Component.text("Owned:", NamedTextColor.GRAY);
+    private static final GlitchMessage GLITCH_DESCRIPTION = new GlitchMessage(type -> Component.textOfChildren(
+        Component.text("- " + type.getName() + ": ", NamedTextColor.YELLOW),
+        Component.text(type.getDescription(), NamedTextColor.GRAY)
+    ));
+    private static final GlitchMessage EQUIPPED_ENTRY = GlitchMessage.of(NamedTextColor.GREEN, "  - ", "");
+    private static final GlitchMessage OWNED_ENTRY = GlitchMessage.of(NamedTextColor.GRAY, "  - ", "");
+    private static final GlitchMessage STATUS_ENTRY = GlitchMessage.of(NamedTextColor.WHITE, "  - ", "");
+    private static final GlitchMessage DESCRIPTION_ENTRY = new GlitchMessage(type -> Component.text("    " + type.getDescription(), NamedTextColor.GRAY));
+    private static final NumberedMessage EQUIPPED_HEADER = new NumberedMessage(NamedTextColor.YELLOW, "Equipped (", "/2):", 2);
+    private static final NumberedMessage COOLDOWN_ENTRY = new NumberedMessage(NamedTextColor.GRAY, "    Cooldown: ", " seconds", 600);
+    
+    private final GlitchSMP plugin;
     private final GlitchManager glitchManager;
     private final GlitchFactory glitchFactory;
     private final CraftingLimiter craftingLimiter;
@@ -30,12 +74,13 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     /**
      * Constructor for GlitchCommand
      * 
-     * @param plugin The main plugin instance (not used)
+     * @param plugin The main plugin instance
      * @param glitchManager The glitch manager instance
      * @param glitchFactory The glitch factory instance
      * @param craftingLimiter The crafting limiter instance
      */
     public GlitchCommand(GlitchSMP plugin, GlitchManager glitchManager, GlitchFactory glitchFactory, CraftingLimiter craftingLimiter) {
+        this.plugin = plugin;
         this.glitchManager = glitchManager;
         this.glitchFactory = glitchFactory;
         this.craftingLimiter = craftingLimiter;
@@ -63,11 +108,15 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
                 return handleResetCommand(sender, args);
             case "status":
                 return handleStatusCommand(sender, args);
+            case "perf":
+                return handlePerfCommand(sender, args);
+            case "reload":
+                return handleReloadCommand(sender);
             case "help":
                 sendHelpMessage(sender);
                 return true;
             default:
-                sender.sendMessage(ChatColor.RED + "Unknown subcommand: " + subCommand);
+                sender.sendMessage(Component.text("Unknown subcommand: " + subCommand, NamedTextColor.RED));
                 sendHelpMessage(sender);
                 return true;
         }
@@ -83,20 +132,20 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleGiveCommand(CommandSender sender, String[] args) {
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.give")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         // Check arguments
         if (args.length < 3) {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch give <player> <glitch>");
+            sender.sendMessage(Component.text("Usage: /glitch give <player> <glitch>", NamedTextColor.RED));
             return true;
         }
         
         // Get player
         Player target = Bukkit.getPlayer(args[1]);
         if (target == null) {
-            sender.sendMessage(ChatColor.RED + "Player not found: " + args[1]);
+            sender.sendMessage(Component.text("Player not found: " + args[1], NamedTextColor.RED));
             return true;
         }
         
@@ -105,19 +154,19 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
         try {
             glitchType = GlitchType.valueOf(args[2].toUpperCase());
         } catch (IllegalArgumentException e) {
-            sender.sendMessage(ChatColor.RED + "Unknown glitch type: " + args[2]);
+            sender.sendMessage(Component.text("Unknown glitch type: " + args[2], NamedTextColor.RED));
             return true;
         }
         
-        // Create and give glitch
-        Glitch glitch = glitchFactory.createGlitch(glitchType);
+        // Give the shared glitch definition
+        Glitch glitch = glitchFactory.getGlitch(glitchType);
         boolean success = glitchManager.giveGlitch(target, glitch);
         
         if (success) {
-            sender.sendMessage(ChatColor.GREEN + "Gave " + glitch.getName() + " to " + target.getName());
-            target.sendMessage(ChatColor.GREEN + "You received " + glitch.getName());
+            sender.sendMessage(Component.text("Gave " + glitch.getName() + " to " + target.getName(), NamedTextColor.GREEN));
+            target.sendMessage(Messages.RECEIVED.get(glitchType));
         } else {
-            sender.sendMessage(ChatColor.RED + target.getName() + " already has " + glitch.getName());
+            sender.sendMessage(Component.text(target.getName() + " already has " + glitch.getName(), NamedTextColor.RED));
         }
         
         return true;
@@ -133,19 +182,19 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleEquipCommand(CommandSender sender, String[] args) {
         // Check if sender is a player
         if (!(sender instanceof Player)) {
-            sender.sendMessage(ChatColor.RED + "This command can only be used by players.");
+            sender.sendMessage(Messages.PLAYERS_ONLY);
             return true;
         }
         
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.equip")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         // Check arguments
         if (args.length < 2) {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch equip <glitch>");
+            sender.sendMessage(Component.text("Usage: /glitch equip <glitch>", NamedTextColor.RED));
             return true;
         }
         
@@ -156,21 +205,15 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
         try {
             glitchType = GlitchType.valueOf(args[1].toUpperCase());
         } catch (IllegalArgumentException e) {
-            sender.sendMessage(ChatColor.RED + "Unknown glitch type: " + args[1]);
+            sender.sendMessage(Component.text("Unknown glitch type: " + args[1], NamedTextColor.RED));
             return true;
         }
         
         // Find the glitch in the player's owned glitches
-        Glitch glitchToEquip = null;
-        for (Glitch ownedGlitch : glitchManager.getOwnedGlitches(player)) {
-            if (ownedGlitch.getName().equals(glitchType.getName())) {
-                glitchToEquip = ownedGlitch;
-                break;
-            }
-        }
+        Glitch glitchToEquip = glitchManager.getOwnedGlitch(player, glitchType);
         
         if (glitchToEquip == null) {
-            sender.sendMessage(ChatColor.RED + "You don't own " + glitchType.getName());
+            sender.sendMessage(Messages.NOT_OWNED.get(glitchType));
             return true;
         }
         
@@ -178,9 +221,9 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
         boolean success = glitchManager.equipGlitch(player, glitchToEquip);
         
         if (success) {
-            sender.sendMessage(ChatColor.GREEN + "Equipped " + glitchToEquip.getName());
+            sender.sendMessage(Messages.EQUIPPED.get(glitchType));
         } else {
-            sender.sendMessage(ChatColor.RED + "Failed to equip " + glitchToEquip.getName() + ". You may already have the maximum number of glitches equipped.");
+            sender.sendMessage(Messages.EQUIP_FAILED.get(glitchType));
         }
         
         return true;
@@ -196,19 +239,19 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleUnequipCommand(CommandSender sender, String[] args) {
         // Check if sender is a player
         if (!(sender instanceof Player)) {
-            sender.sendMessage(ChatColor.RED + "This command can only be used by players.");
+            sender.sendMessage(Messages.PLAYERS_ONLY);
             return true;
         }
         
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.unequip")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         // Check arguments
         if (args.length < 2) {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch unequip <glitch>");
+            sender.sendMessage(Component.text("Usage: /glitch unequip <glitch>", NamedTextColor.RED));
             return true;
         }
         
@@ -219,21 +262,17 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
         try {
             glitchType = GlitchType.valueOf(args[1].toUpperCase());
         } catch (IllegalArgumentException e) {
-            sender.sendMessage(ChatColor.RED + "Unknown glitch type: " + args[1]);
+            sender.sendMessage(Component.text("Unknown glitch type: " + args[1], NamedTextColor.RED));
             return true;
         }
         
         // Find the glitch in the player's equipped glitches
-        Glitch glitchToUnequip = null;
-        for (Glitch equippedGlitch : glitchManager.getEquippedGlitches(player)) {
-            if (equippedGlitch.getName().equals(glitchType.getName())) {
-                glitchToUnequip = equippedGlitch;
-                break;
-            }
-        }
+        Glitch glitchToUnequip = glitchManager.isGlitchEquipped(player, glitchType)
+            ? glitchManager.getOwnedGlitch(player, glitchType)
+            : null;
         
         if (glitchToUnequip == null) {
-            sender.sendMessage(ChatColor.RED + "You don't have " + glitchType.getName() + " equipped");
+            sender.sendMessage(Messages.NOT_EQUIPPED.get(glitchType));
             return true;
         }
         
@@ -241,9 +280,9 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
         boolean success = glitchManager.unequipGlitch(player, glitchToUnequip);
         
         if (success) {
-            sender.sendMessage(ChatColor.GREEN + "Unequipped " + glitchToUnequip.getName());
+            sender.sendMessage(Messages.UNEQUIPPED.get(glitchType));
         } else {
-            sender.sendMessage(ChatColor.RED + "Failed to unequip " + glitchToUnequip.getName());
+            sender.sendMessage(Messages.UNEQUIP_FAILED.get(glitchType));
         }
         
         return true;
@@ -259,58 +298,58 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleListCommand(CommandSender sender, String[] args) {
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.list")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         if (args.length > 1 && args[1].equalsIgnoreCase("all")) {
             // List all available glitch types
-            sender.sendMessage(ChatColor.YELLOW + "Available Glitch Types:");
+            sender.sendMessage(AVAILABLE_HEADER);
             for (GlitchType type : GlitchType.values()) {
-                sender.sendMessage(ChatColor.YELLOW + "- " + type.getName() + ": " + ChatColor.GRAY + type.getDescription());
+                sender.sendMessage(GLITCH_DESCRIPTION.get(type));
             }
         } else if (sender instanceof Player) {
             // List player's owned and equipped glitches
             Player player = (Player) sender;
             
-            sender.sendMessage(ChatColor.YELLOW + "Your Glitches:");
+            sender.sendMessage(YOUR_GLITCHES_HEADER);
             
             // Equipped glitches
             List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(player);
-            sender.sendMessage(ChatColor.YELLOW + "Equipped (" + equippedGlitches.size() + "/2):");
+            sender.sendMessage(EQUIPPED_HEADER.get(equippedGlitches.size()));
             if (equippedGlitches.isEmpty()) {
-                sender.sendMessage(ChatColor.GRAY + "  None");
+                sender.sendMessage(Messages.NONE);
             } else {
                 for (Glitch glitch : equippedGlitches) {
-                    sender.sendMessage(ChatColor.GREEN + "  - " + glitch.getName());
+                    sender.sendMessage(EQUIPPED_ENTRY.get(glitch.getType()));
                 }
             }
             
             // Owned glitches
-            sender.sendMessage(ChatColor.YELLOW + "Owned:");
-            List<Glitch> ownedGlitches = new ArrayList<>(glitchManager.getOwnedGlitches(player));
+            sender.sendMessage(OWNED_HEADER);
+            java.util.Set<Glitch> ownedGlitches = glitchManager.getOwnedGlitches(player);
             if (ownedGlitches.isEmpty()) {
-                sender.sendMessage(ChatColor.GRAY + "  None");
+                sender.sendMessage(Messages.NONE);
             } else {
                 for (Glitch glitch : ownedGlitches) {
-                    boolean isEquipped = equippedGlitches.contains(glitch);
+                    boolean isEquipped = glitchManager.isGlitchEquipped(player, glitch.getType());
                     
                     // Show glitch name with color based on equipped status
-                    sender.sendMessage((isEquipped ? ChatColor.GREEN : ChatColor.GRAY) + "  - " + glitch.getName());
+                    sender.sendMessage(isEquipped ? EQUIPPED_ENTRY.get(glitch.getType()) : OWNED_ENTRY.get(glitch.getType()));
                     
                     // Show glitch description
-                    sender.sendMessage(ChatColor.GRAY + "    " + glitch.getDescription());
+                    sender.sendMessage(DESCRIPTION_ENTRY.get(glitch.getType()));
                     
                     // Show cooldown information
                     long cooldownSeconds = glitch.getCooldownMillis() / 1000;
-                    sender.sendMessage(ChatColor.GRAY + "    Cooldown: " + cooldownSeconds + " seconds");
+                    sender.sendMessage(COOLDOWN_ENTRY.get(cooldownSeconds));
                     
                     // Add a blank line for readability
-                    sender.sendMessage("");
+                    sender.sendMessage(Component.empty());
                 }
             }
         } else {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch list [all]");
+            sender.sendMessage(Component.text("Usage: /glitch list [all]", NamedTextColor.RED));
         }
         
         return true;
@@ -326,26 +365,26 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleResetCommand(CommandSender sender, String[] args) {
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.reset")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         // Check arguments
         if (args.length < 2) {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch reset <player>");
+            sender.sendMessage(Component.text("Usage: /glitch reset <player>", NamedTextColor.RED));
             return true;
         }
         
         // Get player
         Player target = Bukkit.getPlayer(args[1]);
         if (target == null) {
-            sender.sendMessage(ChatColor.RED + "Player not found: " + args[1]);
+            sender.sendMessage(Component.text("Player not found: " + args[1], NamedTextColor.RED));
             return true;
         }
         
         // Reset the player's crafted glitch count
         craftingLimiter.resetCraftedGlitchCount(target);
-        sender.sendMessage(ChatColor.GREEN + "Reset " + target.getName() + "'s glitch crafting count.");
+        sender.sendMessage(Component.text("Reset " + target.getName() + "'s glitch crafting count.", NamedTextColor.GREEN));
         
         return true;
     }
@@ -360,73 +399,191 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
     private boolean handleStatusCommand(CommandSender sender, String[] args) {
         // Check permission
         if (!sender.hasPermission("glitchsmp.command.glitch.status")) {
-            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command.");
+            sender.sendMessage(Messages.NO_PERMISSION);
             return true;
         }
         
         // Check arguments
         if (args.length < 2) {
-            sender.sendMessage(ChatColor.RED + "Usage: /glitch status <player>");
+            sender.sendMessage(Component.text("Usage: /glitch status <player>", NamedTextColor.RED));
             return true;
         }
         
         // Get player
         Player target = Bukkit.getPlayer(args[1]);
         if (target == null) {
-            sender.sendMessage(ChatColor.RED + "Player not found: " + args[1]);
+            sender.sendMessage(Component.text("Player not found: " + args[1], NamedTextColor.RED));
             return true;
         }
         
         // Get player's glitch status
         int craftedCount = craftingLimiter.getPlayerCraftedGlitchCount(target);
         java.util.Set<Glitch> ownedGlitches = glitchManager.getOwnedGlitches(target);
-        List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(target);
         
-        sender.sendMessage(ChatColor.YELLOW + "=== " + target.getName() + "'s Glitch Status ===");
-        sender.sendMessage(ChatColor.GRAY + "Crafted Glitches: " + ChatColor.WHITE + craftedCount + "/2");
-        sender.sendMessage(ChatColor.GRAY + "Owned Glitches: " + ChatColor.WHITE + ownedGlitches.size());
-        sender.sendMessage(ChatColor.GRAY + "Equipped Glitches: " + ChatColor.WHITE + equippedGlitches.size());
+        sender.sendMessage(Component.text("=== " + target.getName() + "'s Glitch Status ===", NamedTextColor.YELLOW));
+        sender.sendMessage(statusLine("Crafted Glitches: ", craftedCount + "/2"));
+        sender.sendMessage(statusLine("Owned Glitches: ", String.valueOf(glitchManager.getOwnedGlitchCount(target))));
+        sender.sendMessage(statusLine("Equipped Glitches: ", String.valueOf(glitchManager.getEquippedGlitchCount(target))));
         
         if (!ownedGlitches.isEmpty()) {
-            sender.sendMessage(ChatColor.GRAY + "Owned:");
+            sender.sendMessage(STATUS_OWNED_HEADER);
             for (Glitch glitch : ownedGlitches) {
-                boolean isEquipped = equippedGlitches.contains(glitch);
-                ChatColor color = isEquipped ? ChatColor.GREEN : ChatColor.WHITE;
-                sender.sendMessage(color + "  - " + glitch.getName());
+                boolean isEquipped = glitchManager.isGlitchEquipped(target, glitch.getType());
+                sender.sendMessage(isEquipped ? EQUIPPED_ENTRY.get(glitch.getType()) : STATUS_ENTRY.get(glitch.getType()));
             }
         }
         
         return true;
     }
     
+    /**
+     * Handles the perf subcommand (admin only)
+     * 
+     * @param sender The command sender
+     * @param args The command arguments
+     * @return true if the command was handled, false otherwise
+     */
+    private boolean handlePerfCommand(CommandSender sender, String[] args) {
+        // Check permission
+        if (!sender.hasPermission("glitchsmp.command.glitch.perf")) {
+            sender.sendMessage(Messages.NO_PERMISSION);
+            return true;
+        }
+        
+        PerfMonitor perfMonitor = plugin.getComponents().getPerfMonitor();
+        if (!perfMonitor.isEnabled()) {
+            sender.sendMessage(Component.text("Performance monitoring is disabled in config.yml (perf.enabled).", NamedTextColor.RED));
+            return true;
+        }
+        
+        String action = args.length > 1 ? args[1].toLowerCase() : "show";
+        switch (action) {
+            case "show":
+                break;
+            case "reset":
+                perfMonitor.reset();
+                sender.sendMessage(Component.text("Performance statistics reset.", NamedTextColor.GREEN));
+                return true;
+            case "dump":
+                // The file is written off the main thread; report back on it once done
+                perfMonitor.dump(new File(plugin.getDataFolder(), "perf")).whenComplete((file, error) ->
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        if (error != null) {
+                            sender.sendMessage(Component.text("Failed to write performance dump: " + error.getMessage(), NamedTextColor.RED));
+                        } else {
+                            sender.sendMessage(Component.text("Performance statistics written to " + file.getPath(), NamedTextColor.GREEN));
+                        }
+                    }));
+                return true;
+            default:
+                sender.sendMessage(Component.text("Usage: /glitch perf [reset|dump]", NamedTextColor.RED));
+                return true;
+        }
+        
+        List<LatencyHistogram.Snapshot> snapshots = perfMonitor.snapshot();
+        sender.sendMessage(Component.text("=== Glitch SMP Performance (ns) ===", NamedTextColor.YELLOW));
+        sender.sendMessage(Component.text("name: count | p50 | p99 | max" + (perfMonitor.isTrackingAllocations() ? " | bytes/call" : ""), NamedTextColor.GRAY));
+        
+        boolean any = false;
+        for (LatencyHistogram.Snapshot snapshot : snapshots) {
+            if (snapshot.getCount() == 0) {
+                continue;
+            }
+            any = true;
+            
+            String line = ": " + snapshot.getCount() + " | " + snapshot.getP50() + " | " + snapshot.getP99() + " | " + snapshot.getMax();
+            if (perfMonitor.isTrackingAllocations()) {
+                line += " | " + snapshot.getAllocatedBytesPerCall();
+            }
+            sender.sendMessage(Component.textOfChildren(
+                Component.text(snapshot.getName(), NamedTextColor.WHITE),
+                Component.text(line, NamedTextColor.GRAY)
+            ));
+        }
+        
+        if (!any) {
+            sender.sendMessage(Component.text("Nothing recorded yet.", NamedTextColor.GRAY));
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Handles the reload subcommand (admin only)
+     * 
+     * @param sender The command sender
+     * @return true if the command was handled, false otherwise
+     */
+    private boolean handleReloadCommand(CommandSender sender) {
+        // Check permission
+        if (!sender.hasPermission("glitchsmp.command.glitch.reload")) {
+            sender.sendMessage(Messages.NO_PERMISSION);
+            return true;
+        }
+        
+        plugin.reloadGlitchConfig();
+        sender.sendMessage(Component.text("Configuration reloaded. " + plugin.getComponents().getDupeRules().getExcludedCount()
+            + " materials are excluded from duping.", NamedTextColor.GREEN));
+        return true;
+    }
+    
     /**
      * Sends the help message to the sender
      * 
      * @param sender The command sender
      */
     private void sendHelpMessage(CommandSender sender) {
-        sender.sendMessage(ChatColor.YELLOW + "Glitch SMP Commands:");
-        sender.sendMessage(ChatColor.YELLOW + "/glitch give <player> <glitch> " + ChatColor.GRAY + "- Gives a glitch to a player");
-        sender.sendMessage(ChatColor.YELLOW + "/glitch equip <glitch> " + ChatColor.GRAY + "- Equips a glitch");
-        sender.sendMessage(ChatColor.YELLOW + "/glitch unequip <glitch> " + ChatColor.GRAY + "- Unequips a glitch");
-        sender.sendMessage(ChatColor.YELLOW + "/glitch list [all] " + ChatColor.GRAY + "- Lists your glitches or all available glitches");
-        sender.sendMessage(ChatColor.YELLOW + "/glitch help " + ChatColor.GRAY + "- Shows this help message");
+        sender.sendMessage(HELP_HEADER);
+        for (Component line : HELP_COMMANDS) {
+            sender.sendMessage(line);
+        }
         
         // Admin commands
         if (sender.hasPermission("glitchsmp.command.glitch.reset")) {
-            sender.sendMessage(ChatColor.YELLOW + "/glitch reset <player> " + ChatColor.GRAY + "- Resets player's glitch crafting count");
+            sender.sendMessage(HELP_RESET);
         }
         if (sender.hasPermission("glitchsmp.command.glitch.status")) {
-            sender.sendMessage(ChatColor.YELLOW + "/glitch status <player> " + ChatColor.GRAY + "- Shows player's glitch status");
+            sender.sendMessage(HELP_STATUS);
+        }
+        if (sender.hasPermission("glitchsmp.command.glitch.perf")) {
+            sender.sendMessage(HELP_PERF);
+        }
+        if (sender.hasPermission("glitchsmp.command.glitch.reload")) {
+            sender.sendMessage(HELP_RELOAD);
         }
         
-        sender.sendMessage("");
-        sender.sendMessage(ChatColor.LIGHT_PURPLE + "Glitch Activation:");
-        sender.sendMessage(ChatColor.GRAY + "• Right-click glitch items to obtain them");
-        sender.sendMessage(ChatColor.GRAY + "• Use offhand keybind (F) to activate right slot glitch");
-        sender.sendMessage(ChatColor.GRAY + "• Crouch + offhand keybind to activate left slot glitch");
-        sender.sendMessage(ChatColor.GRAY + "• Craft glitches using recipes in recipes.yml");
-        sender.sendMessage(ChatColor.GRAY + "• Limited to 2 glitches per player (drops on death)");
+        sender.sendMessage(Component.empty());
+        for (Component line : HELP_ACTIVATION) {
+            sender.sendMessage(line);
+        }
+    }
+    
+    /**
+     * Builds a help line for a subcommand
+     * 
+     * @param usage The subcommand usage
+     * @param description What the subcommand does
+     * @return The help line
+     */
+    private static Component helpLine(String usage, String description) {
+        return Component.textOfChildren(
+            Component.text(usage + " ", NamedTextColor.YELLOW),
+            Component.text("- " + description, NamedTextColor.GRAY)
+        );
+    }
+    
+    /**
+     * Builds a line of the status subcommand output
+     * 
+     * @param label The value's label
+     * @param value The value
+     * @return The status line
+     */
+    private static Component statusLine(String label, String value) {
+        return Component.textOfChildren(
+            Component.text(label, NamedTextColor.GRAY),
+            Component.text(value, NamedTextColor.WHITE)
+        );
     }
     
     @Override
@@ -443,6 +600,12 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
             if (sender.hasPermission("glitchsmp.command.glitch.status")) {
                 subcommands.add("status");
             }
+            if (sender.hasPermission("glitchsmp.command.glitch.perf")) {
+                subcommands.add("perf");
+            }
+            if (sender.hasPermission("glitchsmp.command.glitch.reload")) {
+                subcommands.add("reload");
+            }
             
             return subcommands.stream()
                 .filter(s -> s.startsWith(args[0].toLowerCase()))
@@ -484,6 +647,12 @@ public class GlitchCommand implements CommandExecutor, TabCompleter {
                     .stream()
                     .filter(s -> s.startsWith(args[1].toLowerCase()))
                     .collect(Collectors.toList());
+            } else if (subCommand.equals("perf") && sender.hasPermission("glitchsmp.command.glitch.perf")) {
+                // Suggest perf actions
+                return Arrays.asList("reset", "dump")
+                    .stream()
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
             }
         } else if (args.length == 3 && args[0].toLowerCase().equals("give")) {
             // Suggest glitch types for give command
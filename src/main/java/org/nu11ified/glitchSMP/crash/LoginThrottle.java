@@ -0,0 +1,83 @@
+package org.nu11ified.glitchSMP.crash;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.nu11ified.glitchSMP.message.Messages;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns away players crashed by the Crash Glitch until their throttle runs out.
+ * The check runs on the async login threads and only reads a concurrent map, so it never waits for the main
+ * thread or a lock, and logins cost one emptiness check while nobody is throttled. Throttles are dropped
+ * lazily: by the first login after they ran out, and by a sweep whenever a new player is throttled, so the
+ * map never holds more than the players throttled at the same time.
+ */
+public class LoginThrottle implements Listener {
+    // Map of throttled player UUIDs to the time in milliseconds they may join again
+    private final Map<UUID, Long> deniedUntil = new ConcurrentHashMap<>();
+    
+    /**
+     * Throttles a player's logins, extending any earlier throttle that would end sooner
+     * 
+     * @param playerUUID The UUID of the player
+     * @param durationMillis How long logins are refused in milliseconds
+     */
+    public void deny(UUID playerUUID, long durationMillis) {
+        long now = System.currentTimeMillis();
+        
+        // Throttling is rare, so drop the ones nobody tried to log in through here
+        deniedUntil.values().removeIf(until -> until <= now);
+        
+        deniedUntil.merge(playerUUID, now + durationMillis, Math::max);
+    }
+    
+    /**
+     * Checks if a player's logins are throttled, forgetting the throttle if it has run out
+     * 
+     * @param playerUUID The UUID of the player
+     * @return true if the player may not join yet, false otherwise
+     */
+    public boolean isDenied(UUID playerUUID) {
+        if (deniedUntil.isEmpty()) {
+            return false;
+        }
+        
+        Long until = deniedUntil.get(playerUUID);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        
+        // Only remove the throttle that was read, in case a newer one replaced it meanwhile
+        deniedUntil.remove(playerUUID, until);
+        return false;
+    }
+    
+    /**
+     * Refuses logins of throttled players before anything else spends time on them
+     * 
+     * @param event The async player pre-login event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (isDenied(event.getUniqueId())) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, Messages.CONNECTION_THROTTLED);
+        }
+    }
+    
+    /**
+     * Gets the number of throttles held, including ones that ran out but were not dropped yet
+     * 
+     * @return The throttle count
+     */
+    public int size() {
+        return deniedUntil.size();
+    }
+}
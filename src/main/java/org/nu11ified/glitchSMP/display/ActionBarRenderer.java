@@ -0,0 +1,155 @@
+package org.nu11ified.glitchSMP.display;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.util.Arrays;
+
+/**
+ * Renders the glitch action bar from a packed digest of what it shows.
+ * The digest holds, for each equip slot, the glitch type, its state and the seconds shown, so two equal
+ * digests always render the same bar; a player only needs a new packet when their digest changes.
+ * Every fragment of the bar is built once and reused.
+ */
+final class ActionBarRenderer {
+    static final int STATE_READY = 0;
+    static final int STATE_ACTIVE = 1;
+    static final int STATE_COOLDOWN = 2;
+    
+    // Number of equip slots a digest can describe
+    static final int MAX_SLOTS = 2;
+    
+    // Each slot takes 32 bits: type ordinal + 1 (8 bits), state (2 bits), seconds (22 bits)
+    private static final int SLOT_BITS = 32;
+    private static final int SECONDS_BITS = 22;
+    private static final long SECONDS_MASK = (1L << SECONDS_BITS) - 1;
+    private static final int STATE_SHIFT = SECONDS_BITS;
+    private static final int TYPE_SHIFT = SECONDS_BITS + 2;
+    
+    // Countdowns up to this many seconds reuse cached suffixes
+    private static final int CACHED_SECONDS = 600;
+    
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    private static final Component PREFIX = Component.text("Glitches: ", NamedTextColor.GOLD);
+    private static final Component SEPARATOR = Component.text(" | ", NamedTextColor.GRAY);
+    private static final Component HINT = Component.textOfChildren(
+        Component.text(" | ", NamedTextColor.GRAY),
+        Component.text("Offhand: Right, Crouch+Offhand: Left", NamedTextColor.WHITE)
+    );
+    private static final Component[] SLOT_LABELS = {
+        Component.text("[R] ", NamedTextColor.AQUA), // Right (0)
+        Component.text("[L] ", NamedTextColor.AQUA)  // Left (1)
+    };
+    
+    // Name fragments per state, indexed by ordinal
+    private final Component[] readyNames = new Component[GLITCH_TYPES.length];
+    private final Component[] activeNames = new Component[GLITCH_TYPES.length];
+    private final Component[] cooldownNames = new Component[GLITCH_TYPES.length];
+    
+    // " (Ns)" suffixes per state, indexed by seconds and filled on first use
+    private final Component[] activeSuffixes = new Component[CACHED_SECONDS + 1];
+    private final Component[] cooldownSuffixes = new Component[CACHED_SECONDS + 1];
+    
+    /**
+     * Constructor for ActionBarRenderer
+     */
+    ActionBarRenderer() {
+        for (GlitchType type : GLITCH_TYPES) {
+            int ordinal = type.ordinal();
+            readyNames[ordinal] = Component.textOfChildren(
+                Component.text(type.getName(), NamedTextColor.YELLOW),
+                Component.text(" ✓", NamedTextColor.GREEN)
+            );
+            activeNames[ordinal] = Component.text(type.getName(), NamedTextColor.GREEN);
+            cooldownNames[ordinal] = Component.text(type.getName(), NamedTextColor.RED);
+        }
+    }
+    
+    /**
+     * Packs one equip slot into its part of a digest
+     * 
+     * @param slot The slot index
+     * @param type The equipped glitch type
+     * @param state The glitch state (STATE_READY, STATE_ACTIVE or STATE_COOLDOWN)
+     * @param seconds The seconds shown for an active or cooling down glitch
+     * @return The slot's bits, to be OR-ed into the digest
+     */
+    static long encodeSlot(int slot, GlitchType type, int state, long seconds) {
+        long bits = ((long) (type.ordinal() + 1) << TYPE_SHIFT)
+            | ((long) state << STATE_SHIFT)
+            | Math.min(seconds, SECONDS_MASK);
+        return bits << (slot * SLOT_BITS);
+    }
+    
+    /**
+     * Renders the action bar described by a digest
+     * 
+     * @param digest The digest, 0 meaning nothing is equipped
+     * @return The action bar component
+     */
+    Component render(long digest) {
+        if (digest == 0) {
+            return Component.empty();
+        }
+        
+        // Prefix, then separator, label, name and suffix per slot, then the hint
+        ComponentLike[] parts = new ComponentLike[2 + MAX_SLOTS * 4];
+        int count = 0;
+        parts[count++] = PREFIX;
+        
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            long bits = (digest >>> (slot * SLOT_BITS)) & 0xFFFFFFFFL;
+            if (bits == 0) {
+                break;
+            }
+            
+            int ordinal = (int) (bits >>> TYPE_SHIFT) - 1;
+            int state = (int) ((bits >>> STATE_SHIFT) & 3);
+            int seconds = (int) (bits & SECONDS_MASK);
+            
+            if (slot > 0) {
+                parts[count++] = SEPARATOR;
+            }
+            parts[count++] = SLOT_LABELS[slot];
+            
+            if (state == STATE_ACTIVE) {
+                parts[count++] = activeNames[ordinal];
+                parts[count++] = getSuffix(activeSuffixes, seconds, NamedTextColor.GREEN);
+            } else if (state == STATE_COOLDOWN) {
+                parts[count++] = cooldownNames[ordinal];
+                parts[count++] = getSuffix(cooldownSuffixes, seconds, NamedTextColor.RED);
+            } else {
+                parts[count++] = readyNames[ordinal];
+            }
+        }
+        
+        parts[count++] = HINT;
+        
+        // Unused trailing entries are null; only pass the filled ones
+        return Component.textOfChildren(Arrays.copyOf(parts, count));
+    }
+    
+    /**
+     * Gets the " (Ns)" suffix for a countdown, caching it when the seconds are in range
+     * 
+     * @param cache The suffix cache for the state
+     * @param seconds The seconds shown
+     * @param color The color of the suffix
+     * @return The suffix component
+     */
+    private static Component getSuffix(Component[] cache, int seconds, NamedTextColor color) {
+        if (seconds >= cache.length) {
+            return Component.text(" (" + seconds + "s)", color);
+        }
+        
+        Component suffix = cache[seconds];
+        if (suffix == null) {
+            suffix = Component.text(" (" + seconds + "s)", color);
+            cache[seconds] = suffix;
+        }
+        return suffix;
+    }
+}
@@ -1,39 +1,60 @@
 package org.nu11ified.glitchSMP.display;
 
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.manager.GlitchManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles displaying equipped glitches above the player's hotbar.
+ * A single main thread ticker refreshes the action bars: players are spread over a fixed number
+ * of slices and one slice is refreshed per tick, so every player is refreshed once per cycle
+ * while the work done on any one tick stays flat.
+ * A player is only sent a new action bar when what it shows changes, or when the last one is about to fade.
  */
 public class GlitchDisplay {
-    private final GlitchSMP plugin;
+    private final GlitchComponents components;
     private final GlitchManager glitchManager;
+    private final ActionBarRenderer renderer = new ActionBarRenderer();
     
-    // Map of player UUIDs to their action bar display tasks
-    private final ConcurrentHashMap<UUID, BukkitTask> displayTasks = new ConcurrentHashMap<>();
+    // The client starts fading an action bar 40 ticks after it arrives
+    private static final int ACTION_BAR_FADE_TICKS = 40;
     
-    // Update interval in ticks (1 second = 20 ticks)
-    private static final long UPDATE_INTERVAL = 10;
+    // Players being displayed for, split into slices that are refreshed one per tick
+    private final List<List<DisplayEntry>> slices;
+    
+    // Map of player UUIDs to their display entries
+    private final Map<UUID, DisplayEntry> entries = new HashMap<>();
+    
+    // The shared ticker task, or null if it is not running
+    private BukkitTask tickerTask;
+    private int nextSlice;
+    private long currentTick;
     
     /**
      * Constructor for GlitchDisplay
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
      * @param glitchManager The glitch manager instance
+     * @param sliceCount The number of ticks a full refresh of every player is spread over
      */
-    public GlitchDisplay(GlitchSMP plugin, GlitchManager glitchManager) {
-        this.plugin = plugin;
+    public GlitchDisplay(GlitchComponents components, GlitchManager glitchManager, int sliceCount) {
+        this.components = components;
         this.glitchManager = glitchManager;
+        
+        int count = Math.max(1, sliceCount);
+        this.slices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slices.add(new ArrayList<>());
+        }
     }
     
     /**
@@ -42,18 +63,22 @@ public class GlitchDisplay {
      * @param player The player to start displaying for
      */
     public void startDisplaying(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        
-        // Cancel any existing task
+        // Drop any existing entry, e.g. a stale player object from before a reload
         stopDisplaying(player);
         
-        // Start a new task
-        BukkitTask task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            updateDisplay(player);
-        }, 0, UPDATE_INTERVAL);
+        // Put the player in the least loaded slice so slices stay balanced as players come and go
+        int target = 0;
+        for (int i = 1; i < slices.size(); i++) {
+            if (slices.get(i).size() < slices.get(target).size()) {
+                target = i;
+            }
+        }
+        
+        DisplayEntry entry = new DisplayEntry(player, target);
+        slices.get(target).add(entry);
+        entries.put(player.getUniqueId(), entry);
         
-        // Store the task
-        displayTasks.put(playerUUID, task);
+        startTicker();
     }
     
     /**
@@ -62,92 +87,87 @@ public class GlitchDisplay {
      * @param player The player to stop displaying for
      */
     public void stopDisplaying(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        
-        // Cancel and remove any existing task
-        if (displayTasks.containsKey(playerUUID)) {
-            displayTasks.get(playerUUID).cancel();
-            displayTasks.remove(playerUUID);
+        // Remove the player from their slice
+        DisplayEntry entry = entries.remove(player.getUniqueId());
+        if (entry != null) {
+            slices.get(entry.slice).remove(entry);
         }
     }
     
     /**
-     * Updates the display for a player
-     * 
-     * @param player The player to update the display for
+     * Refreshes the action bars of the players in the next slice
      */
-    private void updateDisplay(Player player) {
-        // Get the player's equipped glitches
-        List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(player);
+    private void tick() {
+        currentTick++;
+        List<DisplayEntry> slice = slices.get(nextSlice);
+        nextSlice = (nextSlice + 1) % slices.size();
         
-        // If the player has no equipped glitches, don't display anything
-        if (equippedGlitches.isEmpty()) {
-            return;
+        for (int i = 0; i < slice.size(); i++) {
+            updateDisplay(slice.get(i));
         }
+    }
+    
+    /**
+     * Starts the shared ticker if it is not already running
+     */
+    private void startTicker() {
+        if (tickerTask == null) {
+            tickerTask = Bukkit.getScheduler().runTaskTimer(components.getPlugin(), components.getPerfMonitor().wrap("GlitchDisplay.tick", this::tick), 1L, 1L);
+        }
+    }
+    
+    /**
+     * Updates the display for a player if it changed or is about to fade
+     * 
+     * @param entry The player's display entry
+     */
+    private void updateDisplay(DisplayEntry entry) {
+        long digest = computeDigest(entry.player);
         
-        // Build the display string
-        StringBuilder displayBuilder = new StringBuilder();
-        
-        // Add slot indicator
-        displayBuilder.append(ChatColor.GOLD).append("Glitches: ");
-        
-        // Add each equipped glitch to the display
-        for (int i = 0; i < equippedGlitches.size(); i++) {
-            Glitch glitch = equippedGlitches.get(i);
-            
-            // Add a separator between glitches
-            if (i > 0) {
-                displayBuilder.append(" ").append(ChatColor.GRAY).append("|").append(" ");
+        if (digest == entry.lastDigest) {
+            // Nothing to keep alive when nothing is shown
+            if (digest == 0) {
+                return;
             }
             
-            // Add slot indicator
-            String slotName = (i == 0) ? "R" : "L"; // Right (0) or Left (1)
-            displayBuilder.append(ChatColor.AQUA).append("[").append(slotName).append("] ");
-            
-            // Add the glitch name with appropriate color
-            if (glitchManager.isGlitchActive(player, glitch)) {
-                // Active glitch - green
-                displayBuilder.append(ChatColor.GREEN);
-                displayBuilder.append(glitch.getName());
-                
-                // Add remaining duration for active glitches
-                long durationSeconds = glitch.getRemainingDuration() / 1000;
-                displayBuilder.append(" (").append(durationSeconds).append("s)");
-            } else if (glitch.isOnCooldown()) {
-                // Glitch on cooldown - red
-                displayBuilder.append(ChatColor.RED);
-                displayBuilder.append(glitch.getName());
-                
-                // Add cooldown time if on cooldown
-                long cooldownSeconds = glitch.getRemainingCooldown() / 1000;
-                displayBuilder.append(" (").append(cooldownSeconds).append("s)");
-            } else {
-                // Ready glitch - yellow
-                displayBuilder.append(ChatColor.YELLOW);
-                displayBuilder.append(glitch.getName());
-                displayBuilder.append(" ").append(ChatColor.GREEN).append("✓");
+            // Resend only if the bar would start fading before this player's next refresh
+            if (currentTick - entry.lastSentTick + slices.size() < ACTION_BAR_FADE_TICKS) {
+                return;
             }
         }
         
-        // Add activation hint
-        if (equippedGlitches.size() > 0) {
-            displayBuilder.append(" ").append(ChatColor.GRAY).append("| ");
-            displayBuilder.append(ChatColor.WHITE).append("Offhand: Right, Crouch+Offhand: Left");
-        }
-        
-        // Send the action bar message
-        sendActionBar(player, displayBuilder.toString());
+        entry.player.sendActionBar(renderer.render(digest));
+        entry.lastDigest = digest;
+        entry.lastSentTick = currentTick;
     }
     
     /**
-     * Sends an action bar message to a player
+     * Packs what a player's action bar shows into a digest (package-private for benchmarks)
      * 
-     * @param player The player to send the message to
-     * @param message The message to send
+     * @param player The player
+     * @return The digest, 0 if the player has no equipped glitches
      */
-    private void sendActionBar(Player player, String message) {
-        // Use Paper's API to send action bar message
-        player.sendActionBar(message);
+    long computeDigest(Player player) {
+        int equippedCount = Math.min(glitchManager.getEquippedGlitchCount(player), ActionBarRenderer.MAX_SLOTS);
+        
+        long digest = 0;
+        for (int slot = 0; slot < equippedCount; slot++) {
+            Glitch glitch = glitchManager.getEquippedGlitch(player, slot);
+            
+            if (glitchManager.isGlitchActive(player, glitch)) {
+                // Active glitch with its remaining duration
+                long seconds = glitchManager.getRemainingDuration(player, glitch) / 1000;
+                digest |= ActionBarRenderer.encodeSlot(slot, glitch.getType(), ActionBarRenderer.STATE_ACTIVE, seconds);
+            } else if (glitchManager.isOnCooldown(player, glitch)) {
+                // Glitch on cooldown with its remaining cooldown
+                long seconds = glitchManager.getRemainingCooldown(player, glitch) / 1000;
+                digest |= ActionBarRenderer.encodeSlot(slot, glitch.getType(), ActionBarRenderer.STATE_COOLDOWN, seconds);
+            } else {
+                // Ready glitch
+                digest |= ActionBarRenderer.encodeSlot(slot, glitch.getType(), ActionBarRenderer.STATE_READY, 0);
+            }
+        }
+        return digest;
     }
     
     /**
@@ -157,6 +177,7 @@ public class GlitchDisplay {
         for (Player player : Bukkit.getOnlinePlayers()) {
             startDisplaying(player);
         }
+        startTicker();
     }
     
     /**
@@ -166,5 +187,34 @@ public class GlitchDisplay {
         for (Player player : Bukkit.getOnlinePlayers()) {
             stopDisplaying(player);
         }
+        
+        // Stop the shared ticker
+        if (tickerTask != null) {
+            tickerTask.cancel();
+            tickerTask = null;
+        }
+    }
+    
+    /**
+     * A displayed player and what was last sent to them
+     */
+    private static final class DisplayEntry {
+        private final Player player;
+        private final int slice;
+        
+        // The digest of the last action bar sent, 0 if none is showing
+        private long lastDigest;
+        private long lastSentTick;
+        
+        /**
+         * Constructor for DisplayEntry
+         * 
+         * @param player The displayed player
+         * @param slice The index of the slice the player is refreshed in
+         */
+        private DisplayEntry(Player player, int slice) {
+            this.player = player;
+            this.slice = slice;
+        }
     }
-}
\ No newline at end of file
+}
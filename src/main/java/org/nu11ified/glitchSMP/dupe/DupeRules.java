@@ -0,0 +1,164 @@
+package org.nu11ified.glitchSMP.dupe;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BundleMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Compiled rules for which items the Dupe Glitch refuses to duplicate.
+ * Material names and item tags from the config are resolved once into an {@link EnumSet}, so checking
+ * an item is a bit test plus, for glitch items, one persistent data read. Items inside bundles and filled
+ * containers such as shulker boxes are held to the same rules, since duplicating the holder copies them too.
+ * Instances are immutable and replaced as a whole on reload.
+ */
+public final class DupeRules {
+    // How deep bundles inside bundles are followed; anything nested deeper is refused
+    private static final int MAX_NESTING = 8;
+    
+    private final Set<Material> excludedMaterials;
+    private final boolean excludeGlitchItems;
+    private final GlitchItems glitchItems;
+    
+    /**
+     * Constructor for DupeRules
+     * 
+     * @param excludedMaterials The materials that are never duplicated
+     * @param excludeGlitchItems Whether glitch items are never duplicated
+     * @param glitchItems The glitch item helper used to recognise glitch items
+     */
+    private DupeRules(Set<Material> excludedMaterials, boolean excludeGlitchItems, GlitchItems glitchItems) {
+        this.excludedMaterials = excludedMaterials;
+        this.excludeGlitchItems = excludeGlitchItems;
+        this.glitchItems = glitchItems;
+    }
+    
+    /**
+     * Compiles the rules from the dupe config section.
+     * Entries are material names, or item tags prefixed with # such as #shulker_boxes; unknown entries are logged and skipped.
+     * 
+     * @param section The dupe config section, or null for the defaults
+     * @param glitchItems The glitch item helper used to recognise glitch items
+     * @param logger The logger unknown entries are reported to
+     * @return The compiled rules
+     */
+    public static DupeRules compile(ConfigurationSection section, GlitchItems glitchItems, Logger logger) {
+        List<String> entries = section != null && section.isList("excluded")
+            ? section.getStringList("excluded")
+            : List.of("DRAGON_EGG", "#shulker_boxes");
+        boolean excludeGlitchItems = section == null || section.getBoolean("exclude-glitch-items", true);
+        
+        EnumSet<Material> excluded = EnumSet.noneOf(Material.class);
+        for (String entry : entries) {
+            String name = entry.trim();
+            if (name.startsWith("#")) {
+                NamespacedKey key = NamespacedKey.fromString(name.substring(1).toLowerCase());
+                Tag<Material> tag = key != null ? Bukkit.getTag(Tag.REGISTRY_ITEMS, key, Material.class) : null;
+                if (tag == null) {
+                    logger.warning("Unknown item tag in glitches.dupe.excluded: " + name);
+                    continue;
+                }
+                excluded.addAll(tag.getValues());
+            } else {
+                Material material = Material.matchMaterial(name);
+                if (material == null) {
+                    logger.warning("Unknown material in glitches.dupe.excluded: " + name);
+                    continue;
+                }
+                excluded.add(material);
+            }
+        }
+        
+        return new DupeRules(Collections.unmodifiableSet(excluded), excludeGlitchItems, glitchItems);
+    }
+    
+    /**
+     * Checks if an item may be duplicated
+     * 
+     * @param item The item, may be null
+     * @return true if the item can be duplicated, false if it is empty or excluded
+     */
+    public boolean canDupe(ItemStack item) {
+        if (item == null || item.getType().isAir()) {
+            return false;
+        }
+        return isAllowed(item, 0);
+    }
+    
+    /**
+     * Checks an item and everything it holds against the rules
+     * 
+     * @param item The item, not empty
+     * @param depth How many holders the item is nested in
+     * @return true if neither the item nor anything inside it is excluded, false otherwise
+     */
+    private boolean isAllowed(ItemStack item, int depth) {
+        if (excludedMaterials.contains(item.getType())) {
+            return false;
+        }
+        if (excludeGlitchItems && glitchItems.isGlitchItem(item)) {
+            return false;
+        }
+        
+        // Plain items have no contents; only items with meta can hold anything
+        if (!item.hasItemMeta()) {
+            return true;
+        }
+        
+        ItemMeta meta = item.getItemMeta();
+        if (meta instanceof BundleMeta) {
+            return areAllowed(((BundleMeta) meta).getItems(), depth);
+        }
+        if (meta instanceof BlockStateMeta && ((BlockStateMeta) meta).hasBlockState()) {
+            BlockState state = ((BlockStateMeta) meta).getBlockState();
+            if (state instanceof Container) {
+                return areAllowed(Arrays.asList(((Container) state).getSnapshotInventory().getContents()), depth);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Checks the contents of a holder against the rules
+     * 
+     * @param contents The contents, may contain null or empty slots
+     * @param depth How many holders the holder is nested in
+     * @return true if nothing in the contents is excluded, false otherwise
+     */
+    private boolean areAllowed(List<ItemStack> contents, int depth) {
+        if (depth >= MAX_NESTING) {
+            return false;
+        }
+        
+        for (ItemStack content : contents) {
+            if (content != null && !content.getType().isAir() && !isAllowed(content, depth + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Gets the number of excluded materials
+     * 
+     * @return The excluded material count
+     */
+    public int getExcludedCount() {
+        return excludedMaterials.size();
+    }
+}
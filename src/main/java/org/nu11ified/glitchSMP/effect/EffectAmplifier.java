@@ -0,0 +1,122 @@
+package org.nu11ified.glitchSMP.effect;
+
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Amplifies potion effects for the Effect Glitch and remembers which ones, so they can be reverted.
+ * Amplifying is one pass over the active effects and one batched update; a player's revert record is an
+ * exactly sized array of the amplified effect types. Main thread only.
+ */
+public class EffectAmplifier {
+    private static final int LEVEL_ONE = 0; // Amplifier of a level I effect
+    private static final PotionEffectType[] NONE = new PotionEffectType[0];
+    
+    // Map of player UUIDs to the effect types amplified for them
+    private final Map<UUID, PotionEffectType[]> amplified = new HashMap<>();
+    
+    /**
+     * Raises every level I effect of a player to level II and remembers them for {@link #revert(Player)}
+     * 
+     * @param player The player
+     * @return true if at least one effect was amplified, false otherwise
+     */
+    public boolean amplify(Player player) {
+        PotionEffectType[] types = amplifyEffects(player);
+        if (types.length == 0) {
+            return false;
+        }
+        
+        // Activating again before reverting keeps the newest record, which covers every effect still amplified
+        amplified.put(player.getUniqueId(), types);
+        return true;
+    }
+    
+    /**
+     * Brings the effects amplified for a player back to level I and forgets them
+     * 
+     * @param player The player
+     * @return true if the player had amplified effects, false otherwise
+     */
+    public boolean revert(Player player) {
+        PotionEffectType[] types = amplified.remove(player.getUniqueId());
+        if (types == null) {
+            return false;
+        }
+        
+        revertEffects(player, types);
+        return true;
+    }
+    
+    /**
+     * Raises every level I effect of an entity to level II in one pass over its effects and one batched update.
+     * A stronger effect replaces the weaker one in place, so nothing has to be removed first.
+     * 
+     * @param entity The entity
+     * @return The types of the amplified effects, sized exactly; empty if the entity had no level I effect
+     */
+    public static PotionEffectType[] amplifyEffects(LivingEntity entity) {
+        Collection<PotionEffect> active = entity.getActivePotionEffects();
+        List<PotionEffect> replacements = new ArrayList<>(active.size());
+        for (PotionEffect effect : active) {
+            if (effect.getAmplifier() == LEVEL_ONE) {
+                replacements.add(effect.withAmplifier(LEVEL_ONE + 1));
+            }
+        }
+        if (replacements.isEmpty()) {
+            return NONE;
+        }
+        
+        entity.addPotionEffects(replacements);
+        
+        PotionEffectType[] types = new PotionEffectType[replacements.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = replacements.get(i).getType();
+        }
+        return types;
+    }
+    
+    /**
+     * Brings effects amplified by {@link #amplifyEffects(LivingEntity)} back to level I, keeping their remaining time.
+     * Effects that ran out or changed level since are left alone.
+     * 
+     * @param entity The entity
+     * @param types The types of the amplified effects
+     */
+    public static void revertEffects(LivingEntity entity, PotionEffectType[] types) {
+        List<PotionEffect> restored = new ArrayList<>(types.length);
+        for (PotionEffectType type : types) {
+            PotionEffect effect = entity.getPotionEffect(type);
+            if (effect != null && effect.getAmplifier() == LEVEL_ONE + 1) {
+                restored.add(effect.withAmplifier(LEVEL_ONE));
+            }
+        }
+        if (restored.isEmpty()) {
+            return;
+        }
+        
+        // A weaker effect never replaces a stronger one, so the amplified effects have to go first
+        for (PotionEffect effect : restored) {
+            entity.removePotionEffect(effect.getType());
+        }
+        entity.addPotionEffects(restored);
+    }
+    
+    /**
+     * Gets the number of players with amplified effects
+     * 
+     * @return The player count
+     */
+    public int size() {
+        return amplified.size();
+    }
+}
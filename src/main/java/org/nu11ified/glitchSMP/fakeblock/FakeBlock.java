@@ -0,0 +1,52 @@
+package org.nu11ified.glitchSMP.fakeblock;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.block.data.BlockData;
+import org.nu11ified.glitchSMP.scheduler.WheelTask;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A block that only exists on the clients it was sent to.
+ * It is its own expiry task, so the registry can time out blocks whose glitch never ended cleanly.
+ */
+final class FakeBlock extends WheelTask {
+    private final FakeBlockRegistry registry;
+    final UUID owner;
+    final UUID worldId;
+    final Location location;
+    final int chunkX;
+    final int chunkZ;
+    final long chunkKey;
+    final BlockData data;
+    
+    // Players whose client currently shows this block
+    final Set<UUID> viewers = new HashSet<>();
+    
+    /**
+     * Constructor for FakeBlock
+     * 
+     * @param registry The registry the block belongs to
+     * @param owner The UUID of the player who placed the block
+     * @param location The block position
+     * @param data The block shown to viewers
+     */
+    FakeBlock(FakeBlockRegistry registry, UUID owner, Location location, BlockData data) {
+        this.registry = registry;
+        this.owner = owner;
+        this.worldId = location.getWorld().getUID();
+        this.location = location;
+        this.chunkX = location.getBlockX() >> 4;
+        this.chunkZ = location.getBlockZ() >> 4;
+        this.chunkKey = Chunk.getChunkKey(chunkX, chunkZ);
+        this.data = data;
+    }
+    
+    @Override
+    protected void run() {
+        registry.remove(owner);
+    }
+}
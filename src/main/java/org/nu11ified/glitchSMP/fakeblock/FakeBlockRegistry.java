@@ -0,0 +1,190 @@
+package org.nu11ified.glitchSMP.fakeblock;
+
+import io.papermc.paper.event.packet.PlayerChunkLoadEvent;
+import io.papermc.paper.event.packet.PlayerChunkUnloadEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.nu11ified.glitchSMP.scheduler.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registry of client-side blocks placed by the Fake Block Glitch.
+ * Fake blocks are only ever sent to clients as block changes; the world is never edited, so there is
+ * no lighting, physics or rollback work. Each block remembers which players currently see it and is
+ * only resent to a player when their client receives its chunk again. Every block expires after a
+ * fixed lifetime even if its glitch never ends. Main thread only.
+ */
+public class FakeBlockRegistry implements Listener {
+    private final TimingWheel timingWheel;
+    private final long lifetimeTicks;
+    
+    // Map of owner UUIDs to the fake block they placed; each owner has at most one
+    private final Map<UUID, FakeBlock> blocks = new HashMap<>();
+    
+    // The placed blocks again, for the chunk events; there are rarely more than a handful
+    private final List<FakeBlock> blockList = new ArrayList<>();
+    
+    // Reused for every viewer position read
+    private final Location viewerLocation = new Location(null, 0, 0, 0);
+    
+    /**
+     * Constructor for FakeBlockRegistry
+     * 
+     * @param timingWheel The timing wheel fake blocks expire on
+     * @param lifetimeTicks The most ticks a fake block exists for
+     */
+    public FakeBlockRegistry(TimingWheel timingWheel, long lifetimeTicks) {
+        this.timingWheel = timingWheel;
+        this.lifetimeTicks = lifetimeTicks;
+    }
+    
+    /**
+     * Places a fake block for a player, replacing the one they placed before
+     * 
+     * @param owner The UUID of the player placing the block
+     * @param location The block position
+     * @param data The block to show
+     */
+    public void place(UUID owner, Location location, BlockData data) {
+        remove(owner);
+        
+        World world = location.getWorld();
+        Location blockLocation = new Location(world, location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        FakeBlock block = new FakeBlock(this, owner, blockLocation, data);
+        blocks.put(owner, block);
+        blockList.add(block);
+        timingWheel.schedule(block, lifetimeTicks);
+        
+        // Show the block to every player whose client already has its chunk. Clients hold whole columns of
+        // chunks, so only the horizontal chunk distance counts, measured against each player's own view distance
+        // with a chunk of slack; isChunkSent has the final say. Placing is rare, so the world's players are walked.
+        for (Player viewer : world.getPlayers()) {
+            viewer.getLocation(viewerLocation);
+            int distance = Math.max(Math.abs((viewerLocation.getBlockX() >> 4) - block.chunkX),
+                Math.abs((viewerLocation.getBlockZ() >> 4) - block.chunkZ));
+            if (distance <= viewer.getSendViewDistance() + 1 && viewer.isChunkSent(block.chunkKey)) {
+                show(block, viewer);
+            }
+        }
+    }
+    
+    /**
+     * Removes the fake block a player placed, restoring the real block for everyone who saw it
+     * 
+     * @param owner The UUID of the player who placed the block
+     */
+    public void remove(UUID owner) {
+        FakeBlock block = blocks.remove(owner);
+        if (block == null) {
+            return;
+        }
+        
+        blockList.remove(block);
+        block.cancel();
+        
+        BlockData real = block.location.getBlock().getBlockData();
+        for (UUID viewerId : block.viewers) {
+            Player viewer = Bukkit.getPlayer(viewerId);
+            if (viewer != null) {
+                viewer.sendBlockChange(block.location, real);
+            }
+        }
+        block.viewers.clear();
+    }
+    
+    /**
+     * Gets the number of placed fake blocks
+     * 
+     * @return The fake block count
+     */
+    public int size() {
+        return blocks.size();
+    }
+    
+    /**
+     * Resends fake blocks in a chunk a player's client has just received, since the chunk data overwrote them
+     * 
+     * @param event The player chunk load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChunkLoad(PlayerChunkLoadEvent event) {
+        if (blockList.isEmpty()) {
+            return;
+        }
+        
+        Chunk chunk = event.getChunk();
+        for (int i = 0; i < blockList.size(); i++) {
+            FakeBlock block = blockList.get(i);
+            if (block.chunkX == chunk.getX() && block.chunkZ == chunk.getZ() && block.worldId.equals(chunk.getWorld().getUID())) {
+                show(block, event.getPlayer());
+            }
+        }
+    }
+    
+    /**
+     * Forgets that a player sees the fake blocks of a chunk their client dropped
+     * 
+     * @param event The player chunk unload event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChunkUnload(PlayerChunkUnloadEvent event) {
+        if (blockList.isEmpty()) {
+            return;
+        }
+        
+        Chunk chunk = event.getChunk();
+        UUID viewerId = event.getPlayer().getUniqueId();
+        for (int i = 0; i < blockList.size(); i++) {
+            FakeBlock block = blockList.get(i);
+            if (block.chunkX == chunk.getX() && block.chunkZ == chunk.getZ() && block.worldId.equals(chunk.getWorld().getUID())) {
+                block.viewers.remove(viewerId);
+            }
+        }
+    }
+    
+    /**
+     * Forgets a player who left as a viewer of every fake block
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID viewerId = event.getPlayer().getUniqueId();
+        for (int i = 0; i < blockList.size(); i++) {
+            blockList.get(i).viewers.remove(viewerId);
+        }
+    }
+    
+    /**
+     * Removes every fake block, for when the plugin is disabled
+     */
+    public void shutdown() {
+        for (UUID owner : new ArrayList<>(blocks.keySet())) {
+            remove(owner);
+        }
+    }
+    
+    /**
+     * Sends a fake block to a player and remembers that they see it
+     * 
+     * @param block The fake block
+     * @param viewer The player
+     */
+    private void show(FakeBlock block, Player viewer) {
+        viewer.sendBlockChange(block.location, block.data);
+        block.viewers.add(viewer.getUniqueId());
+    }
+}
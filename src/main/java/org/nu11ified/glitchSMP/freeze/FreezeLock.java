@@ -0,0 +1,260 @@
+package org.nu11ified.glitchSMP.freeze;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.projectiles.ProjectileSource;
+import org.nu11ified.glitchSMP.combat.CombatEffect;
+import org.nu11ified.glitchSMP.combat.CombatEffectHandler;
+import org.nu11ified.glitchSMP.combat.CombatRouter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Locks frozen players in place for the Freeze Glitch.
+ * A frozen player can't leave their block, use or consume items, throw projectiles, pearl away or attack.
+ * Movement, item use and pearl checks all share one lookup, which returns straight away while nobody is
+ * frozen, and movement only compares block coordinates. A player frozen by several glitches at once stays
+ * frozen until the last one ends. Main thread only.
+ */
+public class FreezeLock implements Listener, CombatEffectHandler {
+    private final CombatRouter combatRouter;
+    
+    // Map of frozen player UUIDs to the block they are locked to
+    private final Map<UUID, Frozen> frozen = new HashMap<>();
+    
+    // Map of freezing player UUIDs to the player they froze
+    private final Map<UUID, UUID> ownerTargets = new HashMap<>();
+    
+    /**
+     * Constructor for FreezeLock
+     * 
+     * @param combatRouter The combat router frozen attackers are flagged in
+     */
+    public FreezeLock(CombatRouter combatRouter) {
+        this.combatRouter = combatRouter;
+        
+        // Attacks reach this lock through the combat router only while someone is frozen
+        combatRouter.registerHandler(CombatEffect.FREEZE, this);
+    }
+    
+    /**
+     * Freezes a player on behalf of another
+     * 
+     * @param owner The UUID of the player whose glitch freezes the target
+     * @param target The player to freeze
+     */
+    public void freeze(UUID owner, Player target) {
+        // A player only ever holds one freeze; replace any stale one
+        release(owner);
+        
+        UUID targetId = target.getUniqueId();
+        Frozen entry = frozen.get(targetId);
+        if (entry == null) {
+            entry = new Frozen();
+            entry.anchor(target.getLocation());
+            frozen.put(targetId, entry);
+            combatRouter.addEffect(targetId, CombatEffect.FREEZE);
+        }
+        entry.refCount++;
+        ownerTargets.put(owner, targetId);
+    }
+    
+    /**
+     * Ends a player's freeze, unlocking the target if no other freeze holds them
+     * 
+     * @param owner The UUID of the player whose glitch froze a target
+     * @return The UUID of the unlocked target, or null if the target is still frozen or there was none
+     */
+    public UUID release(UUID owner) {
+        UUID targetId = ownerTargets.remove(owner);
+        if (targetId == null) {
+            return null;
+        }
+        
+        Frozen entry = frozen.get(targetId);
+        if (entry == null || --entry.refCount > 0) {
+            return null;
+        }
+        
+        frozen.remove(targetId);
+        combatRouter.removeEffect(targetId, CombatEffect.FREEZE);
+        return targetId;
+    }
+    
+    /**
+     * Checks if a player is frozen
+     * 
+     * @param player The player
+     * @return true if frozen, false otherwise
+     */
+    public boolean isFrozen(Player player) {
+        return getFrozen(player) != null;
+    }
+    
+    /**
+     * Keeps frozen players inside their block; turning the head is still allowed
+     * 
+     * @param event The player move event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Frozen entry = getFrozen(event.getPlayer());
+        if (entry == null) {
+            return;
+        }
+        
+        Location to = event.getTo();
+        if (to.getBlockX() != entry.x || to.getBlockY() != entry.y || to.getBlockZ() != entry.z) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Blocks pearl and chorus fruit teleports of frozen players, and re-anchors them after any other teleport
+     * 
+     * @param event The player teleport event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        Frozen entry = getFrozen(event.getPlayer());
+        if (entry == null) {
+            return;
+        }
+        
+        PlayerTeleportEvent.TeleportCause cause = event.getCause();
+        if (cause == PlayerTeleportEvent.TeleportCause.ENDER_PEARL || cause == PlayerTeleportEvent.TeleportCause.CONSUMABLE_EFFECT) {
+            event.setCancelled(true);
+        } else {
+            // Teleports by commands or other plugins move the lock along with the player
+            entry.anchor(event.getTo());
+        }
+    }
+    
+    /**
+     * Locks frozen players to where they respawn
+     * 
+     * @param event The player respawn event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        Frozen entry = getFrozen(event.getPlayer());
+        if (entry != null) {
+            entry.anchor(event.getRespawnLocation());
+        }
+    }
+    
+    /**
+     * Stops frozen players from using items or blocks
+     * 
+     * @param event The player interact event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        if (getFrozen(event.getPlayer()) != null) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Stops frozen players from using items on entities
+     * 
+     * @param event The player interact entity event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerInteractEntity(PlayerInteractEntityEvent event) {
+        if (getFrozen(event.getPlayer()) != null) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Stops frozen players from eating or drinking
+     * 
+     * @param event The player item consume event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerItemConsume(PlayerItemConsumeEvent event) {
+        if (getFrozen(event.getPlayer()) != null) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Stops frozen players from launching projectiles, including pearls
+     * 
+     * @param event The projectile launch event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onProjectileLaunch(ProjectileLaunchEvent event) {
+        if (frozen.isEmpty()) {
+            return;
+        }
+        
+        ProjectileSource shooter = event.getEntity().getShooter();
+        if (shooter instanceof Player && getFrozen((Player) shooter) != null) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Cancels hits dealt by frozen players
+     * 
+     * @param event The damage event
+     * @param attacker The frozen attacker
+     */
+    @Override
+    public void onAttackerDamage(EntityDamageByEntityEvent event, Entity attacker) {
+        event.setCancelled(true);
+    }
+    
+    /**
+     * Gets the lock of a frozen player
+     * 
+     * @param player The player
+     * @return The player's lock, or null if they are not frozen
+     */
+    private Frozen getFrozen(Player player) {
+        // Common case: nobody is frozen, so the hottest events on the server cost one field read
+        if (frozen.isEmpty()) {
+            return null;
+        }
+        return frozen.get(player.getUniqueId());
+    }
+    
+    /**
+     * The block a frozen player is locked to
+     */
+    private static final class Frozen {
+        private int x;
+        private int y;
+        private int z;
+        
+        // Number of freezes holding this player
+        private int refCount;
+        
+        /**
+         * Locks the player to the block at a position
+         * 
+         * @param location The position
+         */
+        private void anchor(Location location) {
+            x = location.getBlockX();
+            y = location.getBlockY();
+            z = location.getBlockZ();
+        }
+    }
+}
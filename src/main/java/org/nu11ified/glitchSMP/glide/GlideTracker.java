@@ -0,0 +1,220 @@
+package org.nu11ified.glitchSMP.glide;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityToggleGlideEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.manager.DiffuseListener;
+import org.nu11ified.glitchSMP.message.Messages;
+import org.nu11ified.glitchSMP.perf.PerfMonitor;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps players launched by the Glide Glitch gliding, with or without an elytra, until they land.
+ * Active gliders live in one small map swept by a single task each tick; the sweep only visits current gliders,
+ * and the task only runs while there is at least one. The server would end a glide without an elytra right
+ * away, so that is cancelled for gliders still in the air. A Diffuser Glitch ends every glide. Main thread only.
+ */
+public class GlideTracker implements Listener, DiffuseListener {
+    // Ticks a launched player may stay on the ground before the launch counts as failed, e.g. under a ceiling
+    private static final int LAUNCH_TICKS = 20;
+    
+    private final Plugin plugin;
+    private final Runnable sweep;
+    
+    // Map of gliding player UUIDs to their glide
+    private final Map<UUID, Glider> gliders = new HashMap<>();
+    
+    private BukkitTask sweepTask;
+    
+    /**
+     * Constructor for GlideTracker
+     * 
+     * @param plugin The plugin the sweep task runs for
+     * @param perfMonitor The performance monitor the sweep task is measured by
+     */
+    public GlideTracker(Plugin plugin, PerfMonitor perfMonitor) {
+        this.plugin = plugin;
+        this.sweep = perfMonitor.wrap("GlideTracker.sweep", this::sweep);
+    }
+    
+    /**
+     * Starts tracking a player who was just launched; they glide from the first tick they are off the ground
+     * 
+     * @param player The launched player
+     */
+    public void launch(Player player) {
+        gliders.put(player.getUniqueId(), new Glider(player));
+        if (sweepTask == null) {
+            sweepTask = Bukkit.getScheduler().runTaskTimer(plugin, sweep, 1L, 1L);
+        }
+    }
+    
+    /**
+     * Checks if a player is gliding through the Glide Glitch
+     * 
+     * @param player The player
+     * @return true if gliding or about to, false otherwise
+     */
+    public boolean isGliding(Player player) {
+        return !gliders.isEmpty() && gliders.containsKey(player.getUniqueId());
+    }
+    
+    /**
+     * Ends a player's glide early
+     * 
+     * @param player The player
+     * @return true if the player was gliding through the Glide Glitch, false otherwise
+     */
+    public boolean end(Player player) {
+        if (gliders.isEmpty() || gliders.remove(player.getUniqueId()) == null) {
+            return false;
+        }
+        
+        // The sweep task stops by itself on its next run once nobody glides
+        player.setGliding(false);
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.GLIDE));
+        return true;
+    }
+    
+    /**
+     * Ends every glide when glitches are diffused
+     */
+    @Override
+    public void onDiffuse() {
+        // Ending removes the glider from the map, so walk a snapshot
+        for (Glider glider : gliders.values().toArray(new Glider[0])) {
+            if (glider.player.isOnline()) {
+                end(glider.player);
+            }
+        }
+    }
+    
+    /**
+     * Keeps gliders in the air from being dropped out of their glide
+     * 
+     * @param event The entity toggle glide event
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityToggleGlide(EntityToggleGlideEvent event) {
+        if (event.isGliding() || gliders.isEmpty()) {
+            return;
+        }
+        
+        Glider glider = gliders.get(event.getEntity().getUniqueId());
+        if (glider != null && glider.airborne && !hasLanded(glider.player)) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Stops tracking players who leave mid-glide
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        if (!gliders.isEmpty()) {
+            gliders.remove(event.getPlayer().getUniqueId());
+        }
+    }
+    
+    /**
+     * Ends every glide and stops the sweep task, for when the plugin is disabled
+     */
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        
+        for (Glider glider : gliders.values()) {
+            if (glider.player.isOnline()) {
+                glider.player.setGliding(false);
+            }
+        }
+        gliders.clear();
+    }
+    
+    /**
+     * Starts glides once gliders leave the ground, keeps them going, and drops gliders that landed
+     */
+    private void sweep() {
+        Iterator<Glider> iterator = gliders.values().iterator();
+        while (iterator.hasNext()) {
+            Glider glider = iterator.next();
+            Player player = glider.player;
+            if (!player.isOnline() || player.isDead()) {
+                iterator.remove();
+                continue;
+            }
+            
+            if (!glider.airborne) {
+                // Wait for the launch to lift the player off the ground
+                if (player.isOnGround()) {
+                    if (++glider.groundTicks >= LAUNCH_TICKS) {
+                        iterator.remove();
+                        player.sendMessage(Messages.WORN_OFF.get(GlitchType.GLIDE));
+                    }
+                    continue;
+                }
+                glider.airborne = true;
+            }
+            
+            if (hasLanded(player)) {
+                iterator.remove();
+                player.setGliding(false);
+                player.sendMessage(Messages.WORN_OFF.get(GlitchType.GLIDE));
+            } else if (!player.isGliding()) {
+                player.setGliding(true);
+            }
+        }
+        
+        if (gliders.isEmpty() && sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+    }
+    
+    /**
+     * Checks if a glider has come down, on the ground or in water
+     * 
+     * @param player The glider
+     * @return true if landed, false otherwise
+     */
+    private static boolean hasLanded(Player player) {
+        return player.isOnGround() || player.isInWater();
+    }
+    
+    /**
+     * One player's glide
+     */
+    private static final class Glider {
+        private final Player player;
+        
+        // Whether the launch has lifted the player off the ground yet
+        private boolean airborne;
+        
+        // Ticks spent on the ground since the launch
+        private int groundTicks;
+        
+        /**
+         * Constructor for Glider
+         * 
+         * @param player The launched player
+         */
+        private Glider(Player player) {
+            this.player = player;
+        }
+    }
+}
@@ -2,55 +2,41 @@ package org.nu11ified.glitchSMP.glitch;
 
 import org.bukkit.entity.Player;
 
-import java.util.UUID;
-
 /**
  * Base class for all glitches in the Glitch SMP plugin.
+ * A glitch is an immutable definition shared by every player who owns it;
+ * per-player state such as cooldowns lives in the GlitchManager.
  */
 public abstract class Glitch {
+    private final GlitchType type;
     private final String name;
     private final String description;
     private final long cooldownMillis;
     private final long durationMillis;
-    private final UUID id;
-    
-    // Track when this glitch was last activated
-    private long lastActivationTime = 0;
     
     /**
      * Constructor for a glitch
      * 
-     * @param name The name of the glitch
-     * @param description The description of the glitch
+     * @param type The type of the glitch
      * @param cooldownMillis The cooldown time in milliseconds
      * @param durationMillis The duration time in milliseconds (0 for instant effects)
      */
-    public Glitch(String name, String description, long cooldownMillis, long durationMillis) {
-        this.name = name;
-        this.description = description;
+    public Glitch(GlitchType type, long cooldownMillis, long durationMillis) {
+        this.type = type;
+        this.name = type.getName();
+        this.description = type.getDescription();
         this.cooldownMillis = cooldownMillis;
         this.durationMillis = durationMillis;
-        this.id = UUID.randomUUID();
     }
     
     /**
-     * Activates the glitch for the given player
+     * Activates the glitch for the given player.
+     * Cooldowns are tracked per player by the GlitchManager, which only calls this once the player is off cooldown.
      * 
      * @param player The player activating the glitch
-     * @return true if activation was successful, false if on cooldown
      */
-    public boolean activate(Player player) {
-        if (isOnCooldown()) {
-            return false;
-        }
-        
-        // Set last activation time
-        lastActivationTime = System.currentTimeMillis();
-        
-        // Execute the glitch effect
+    public void activate(Player player) {
         onActivate(player);
-        
-        return true;
     }
     
     /**
@@ -63,45 +49,12 @@ public abstract class Glitch {
     }
     
     /**
-     * Checks if the glitch is currently on cooldown
-     * 
-     * @return true if on cooldown, false otherwise
-     */
-    public boolean isOnCooldown() {
-        return System.currentTimeMillis() - lastActivationTime < cooldownMillis;
-    }
-    
-    /**
-     * Checks if the glitch is currently active
-     * 
-     * @return true if active, false otherwise
-     */
-    public boolean isActive() {
-        return System.currentTimeMillis() - lastActivationTime < durationMillis;
-    }
-    
-    /**
-     * Gets the remaining cooldown time in milliseconds
-     * 
-     * @return The remaining cooldown time
-     */
-    public long getRemainingCooldown() {
-        if (!isOnCooldown()) {
-            return 0;
-        }
-        return cooldownMillis - (System.currentTimeMillis() - lastActivationTime);
-    }
-    
-    /**
-     * Gets the remaining duration time in milliseconds
+     * Gets the type of the glitch
      * 
-     * @return The remaining duration time
+     * @return The glitch type
      */
-    public long getRemainingDuration() {
-        if (!isActive()) {
-            return 0;
-        }
-        return durationMillis - (System.currentTimeMillis() - lastActivationTime);
+    public GlitchType getType() {
+        return type;
     }
     
     /**
@@ -140,15 +93,6 @@ public abstract class Glitch {
         return durationMillis;
     }
     
-    /**
-     * Gets the unique ID of this glitch instance
-     * 
-     * @return The UUID
-     */
-    public UUID getId() {
-        return id;
-    }
-    
     /**
      * Implementation of the glitch activation effect
      * 
@@ -162,18 +106,4 @@ public abstract class Glitch {
      * @param player The player deactivating the glitch
      */
     protected abstract void onDeactivate(Player player);
-    
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) return true;
-        if (obj == null || getClass() != obj.getClass()) return false;
-        
-        Glitch glitch = (Glitch) obj;
-        return id.equals(glitch.id);
-    }
-    
-    @Override
-    public int hashCode() {
-        return id.hashCode();
-    }
 }
\ No newline at end of file
@@ -1,38 +1,78 @@
 package org.nu11ified.glitchSMP.glitch;
 
-import org.bukkit.ChatColor;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.impl.*;
+import org.nu11ified.glitchSMP.message.Messages;
 
 /**
- * Factory class for creating glitch instances.
+ * Factory class for glitch definitions.
+ * Each glitch type has exactly one shared, immutable definition, created once at startup.
  */
 public class GlitchFactory {
-    private final GlitchSMP plugin;
+    private final GlitchComponents components;
+    
+    // Shared glitch definitions, indexed by GlitchType ordinal
+    private final Glitch[] glitches;
     
     /**
      * Constructor for GlitchFactory
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
+     */
+    public GlitchFactory(GlitchComponents components) {
+        this.components = components;
+        
+        GlitchType[] types = GlitchType.values();
+        this.glitches = new Glitch[types.length];
+        for (GlitchType type : types) {
+            glitches[type.ordinal()] = createGlitch(type);
+        }
+    }
+    
+    /**
+     * Gets the shared definition of a glitch type
+     * 
+     * @param type The glitch type
+     * @return The glitch definition
      */
-    public GlitchFactory(GlitchSMP plugin) {
-        this.plugin = plugin;
+    public Glitch getGlitch(GlitchType type) {
+        return glitches[type.ordinal()];
     }
     
     /**
-     * Creates a new glitch instance of the specified type
+     * Creates the definition for the specified glitch type
      * 
      * @param type The type of glitch to create
      * @return A new glitch instance
      */
-    public Glitch createGlitch(GlitchType type) {
+    private Glitch createGlitch(GlitchType type) {
         switch (type) {
             case INVISIBILITY:
                 return new InvisibilityGlitch();
             case IMMUNITY:
-                return new ImmunityGlitch(plugin);
+                return new ImmunityGlitch(components);
             case TELEPORT:
-                return new TeleportGlitch(plugin);
+                return new TeleportGlitch(components);
+            case REDSTONE:
+                return new RedstoneGlitch(components);
+            case FREEZE:
+                return new FreezeGlitch(components);
+            case DIFFUSER:
+                return new DiffuserGlitch(components);
+            case FAKE_BLOCK:
+                return new FakeBlockGlitch(components);
+            case INVENTORY:
+                return new InventoryGlitch(components);
+            case DUPE:
+                return new DupeGlitch(components);
+            case ITEM:
+                return new ItemGlitch(components);
+            case EFFECT:
+                return new EffectGlitch(components);
+            case CRASH:
+                return new CrashGlitch(components);
+            case GLIDE:
+                return new GlideGlitch(components);
             // TODO: Implement the rest of the glitches
             default:
                 // For unimplemented glitches, return a placeholder glitch
@@ -47,10 +87,10 @@ public class GlitchFactory {
      * @return A placeholder glitch
      */
     private Glitch createPlaceholderGlitch(GlitchType type) {
-        return new Glitch(type.getName(), type.getDescription(), 60000, 30000) {
+        return new Glitch(type, 60000, 30000) {
             @Override
             protected void onActivate(org.bukkit.entity.Player player) {
-                player.sendMessage(ChatColor.RED + "The " + type.getName() + " is not yet implemented.");
+                player.sendMessage(Messages.NOT_IMPLEMENTED.get(type));
             }
             
             @Override
@@ -0,0 +1,183 @@
+package org.nu11ified.glitchSMP.glitch;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates and identifies glitch items.
+ * Glitch items carry their type's ordinal in their PersistentDataContainer, so identifying one is a
+ * material check, one PDC read and an array index. Items made before the tag existed are recognised
+ * by their display name, lore and unbreakable flag, and tagged the first time they are seen.
+ */
+public class GlitchItems {
+    // All glitch items are nether stars
+    public static final Material GLITCH_MATERIAL = Material.NETHER_STAR;
+    
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    // Lore lines below the description, shared by every glitch item
+    private static final String EQUIP_HINT = "Right-click to equip this glitch";
+    private static final String LIST_HINT = "Use /glitch list to see your glitches";
+    
+    private final NamespacedKey typeKey;
+    
+    // Legacy untagged items, looked up by their display name without color codes
+    private final Map<String, GlitchType> legacyNames = new HashMap<>();
+    
+    // Lore of each glitch type's item without color codes, indexed by ordinal; a legacy item must carry it exactly
+    private final List<List<String>> legacyLore = new ArrayList<>(GLITCH_TYPES.length);
+    
+    /**
+     * Constructor for GlitchItems
+     * 
+     * @param plugin The plugin the tag key belongs to
+     */
+    public GlitchItems(Plugin plugin) {
+        this(new NamespacedKey(plugin, "glitch_type"));
+    }
+    
+    /**
+     * Constructor for GlitchItems with an explicit tag key (used where no plugin instance exists, e.g. benchmarks)
+     * 
+     * @param typeKey The PDC key the glitch type is stored under
+     */
+    public GlitchItems(NamespacedKey typeKey) {
+        this.typeKey = typeKey;
+        
+        for (GlitchType type : GLITCH_TYPES) {
+            legacyNames.put(type.getName(), type);
+            legacyLore.add(List.of(type.getDescription(), "", EQUIP_HINT, LIST_HINT));
+        }
+    }
+    
+    /**
+     * Creates a glitch item for the given glitch type
+     * 
+     * @param glitchType The glitch type
+     * @return The glitch item
+     */
+    public ItemStack createItem(GlitchType glitchType) {
+        ItemStack item = new ItemStack(GLITCH_MATERIAL);
+        ItemMeta meta = item.getItemMeta();
+        
+        if (meta != null) {
+            meta.setDisplayName(ChatColor.LIGHT_PURPLE + glitchType.getName());
+            
+            // Add lore
+            List<String> lore = new ArrayList<>();
+            lore.add(ChatColor.GRAY + glitchType.getDescription());
+            lore.add("");
+            lore.add(ChatColor.YELLOW + EQUIP_HINT);
+            lore.add(ChatColor.YELLOW + LIST_HINT);
+            
+            meta.setLore(lore);
+            meta.setUnbreakable(true);
+            
+            // Tag the item with its type so it never has to be identified by name
+            meta.getPersistentDataContainer().set(typeKey, PersistentDataType.INTEGER, glitchType.ordinal());
+            
+            item.setItemMeta(meta);
+        }
+        
+        return item;
+    }
+    
+    /**
+     * Checks if an item is a glitch item
+     * 
+     * @param item The item to check, may be null
+     * @return true if it's a glitch item, false otherwise
+     */
+    public boolean isGlitchItem(ItemStack item) {
+        return getType(item) != null;
+    }
+    
+    /**
+     * Checks if an item already carries a glitch type tag, so {@link #getType(ItemStack)} will not migrate it
+     * 
+     * @param item The item, may be null
+     * @return true if the item is a tagged nether star, false otherwise
+     */
+    public boolean isTagged(ItemStack item) {
+        return item != null && item.getType() == GLITCH_MATERIAL && item.hasItemMeta()
+            && item.getPersistentDataContainer().has(typeKey, PersistentDataType.INTEGER);
+    }
+    
+    /**
+     * Gets the glitch type of a glitch item.
+     * Untagged legacy items are tagged in place, so callers holding a copy of the item
+     * should write it back if they want the migration to stick.
+     * 
+     * @param item The item, may be null
+     * @return The glitch type, or null if the item is not a glitch item
+     */
+    public GlitchType getType(ItemStack item) {
+        // Plain nether stars and everything else are rejected without touching item meta
+        if (item == null || item.getType() != GLITCH_MATERIAL || !item.hasItemMeta()) {
+            return null;
+        }
+        
+        // Read-only view of the item's data, no meta copy
+        Integer ordinal = item.getPersistentDataContainer().get(typeKey, PersistentDataType.INTEGER);
+        if (ordinal != null) {
+            return ordinal >= 0 && ordinal < GLITCH_TYPES.length ? GLITCH_TYPES[ordinal] : null;
+        }
+        
+        return migrateLegacyItem(item);
+    }
+    
+    /**
+     * Identifies an untagged item as a glitch item and tags it.
+     * A nether star renamed in an anvil only gets the name right, so the unbreakable flag and the
+     * full lore every glitch item was created with have to match as well.
+     * 
+     * @param item The untagged nether star
+     * @return The glitch type, or null if the item is not a glitch item
+     */
+    private GlitchType migrateLegacyItem(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null || !meta.hasDisplayName() || !meta.isUnbreakable() || !meta.hasLore()) {
+            return null;
+        }
+        
+        GlitchType type = legacyNames.get(ChatColor.stripColor(meta.getDisplayName()));
+        if (type == null || !hasLegacyLore(meta.getLore(), type)) {
+            return null;
+        }
+        
+        meta.getPersistentDataContainer().set(typeKey, PersistentDataType.INTEGER, type.ordinal());
+        item.setItemMeta(meta);
+        return type;
+    }
+    
+    /**
+     * Checks if an item's lore is the lore a glitch item of the given type was created with
+     * 
+     * @param lore The item's lore
+     * @param type The glitch type its display name matched
+     * @return true if every line matches, ignoring color codes, false otherwise
+     */
+    private boolean hasLegacyLore(List<String> lore, GlitchType type) {
+        List<String> expected = legacyLore.get(type.ordinal());
+        if (lore == null || lore.size() != expected.size()) {
+            return false;
+        }
+        
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).equals(ChatColor.stripColor(lore.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
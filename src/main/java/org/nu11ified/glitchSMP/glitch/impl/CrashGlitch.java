@@ -0,0 +1,55 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Crash Glitch implementation.
+ * Kicks the nearest player within 10 blocks, who then reads "Connection throttled" on every join attempt for 15 seconds.
+ */
+public class CrashGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 0; // The throttle expires by itself
+    private static final long COOLDOWN_MILLIS = 10 * 60 * 1000; // 10 minutes
+    private static final long THROTTLE_MILLIS = 15 * 1000; // 15 seconds
+    private static final double RANGE = 10; // Maximum distance to the crashed player
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for CrashGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public CrashGlitch(GlitchComponents components) {
+        super(
+            GlitchType.CRASH,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        Player target = components.getPlayerSpatialIndex().findNearest(player, RANGE);
+        if (target == null) {
+            player.sendMessage(Messages.NO_CRASH_TARGET);
+            return;
+        }
+        
+        // Throttle first, so a client that reconnects instantly is already turned away
+        components.getLoginThrottle().deny(target.getUniqueId(), THROTTLE_MILLIS);
+        target.kick(Messages.CONNECTION_THROTTLED);
+        
+        // Send message to player
+        player.sendMessage(Messages.CRASH_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // No deactivation needed, the throttle expires by itself
+    }
+}
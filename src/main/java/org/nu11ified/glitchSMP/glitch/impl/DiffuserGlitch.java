@@ -0,0 +1,49 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Diffuser Glitch implementation.
+ * Ends every active glitch on the server and stops anyone from activating one for 30 seconds.
+ */
+public class DiffuserGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
+    private static final long COOLDOWN_MILLIS = 10 * 60 * 1000; // 10 minutes
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for DiffuserGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public DiffuserGlitch(GlitchComponents components) {
+        super(
+            GlitchType.DIFFUSER,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        // Block activations and end every active effect; this glitch's own timer is scheduled after this returns
+        components.getGlitchManager().diffuse(DURATION_MILLIS, this);
+        
+        // Let the activator and everyone else know
+        player.sendMessage(Messages.DIFFUSER_ACTIVATED);
+        Bukkit.broadcast(Messages.GLITCHES_DIFFUSED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // Activations unblock by themselves once the deadline passes
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.DIFFUSER));
+    }
+}
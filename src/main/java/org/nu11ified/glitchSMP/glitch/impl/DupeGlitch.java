@@ -0,0 +1,56 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Dupe Glitch implementation.
+ * Duplicates the item stack in the player's main hand, except for excluded items such as the dragon egg,
+ * glitches and shulker boxes.
+ */
+public class DupeGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 0; // Instant effect
+    private static final long COOLDOWN_MILLIS = 5 * 60 * 1000; // 5 minutes
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for DupeGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public DupeGlitch(GlitchComponents components) {
+        super(
+            GlitchType.DUPE,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        ItemStack item = player.getInventory().getItemInMainHand();
+        if (!components.getDupeRules().canDupe(item)) {
+            player.sendMessage(item.getType().isAir() ? Messages.NOTHING_TO_DUPE : Messages.CANNOT_DUPE);
+            return;
+        }
+        
+        // Add the copy to the inventory, dropping whatever doesn't fit at the player's feet
+        for (ItemStack leftover : player.getInventory().addItem(item.clone()).values()) {
+            player.getWorld().dropItemNaturally(player.getLocation(), leftover);
+        }
+        
+        // Send message to player
+        player.sendMessage(Messages.DUPE_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // No deactivation needed for instant effects
+    }
+}
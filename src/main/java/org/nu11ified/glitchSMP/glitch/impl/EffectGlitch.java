@@ -0,0 +1,53 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Effect Glitch implementation.
+ * Turns every level I potion effect of the player into level II for 1 minute, keeping each effect's remaining time.
+ */
+public class EffectGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 60 * 1000; // 1 minute
+    private static final long COOLDOWN_MILLIS = 5 * 60 * 1000; // 5 minutes
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for EffectGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public EffectGlitch(GlitchComponents components) {
+        super(
+            GlitchType.EFFECT,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        if (!components.getEffectAmplifier().amplify(player)) {
+            player.sendMessage(Messages.NO_EFFECTS_TO_AMPLIFY);
+            return;
+        }
+        
+        // Send message to player
+        player.sendMessage(Messages.EFFECT_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        if (!components.getEffectAmplifier().revert(player)) {
+            return;
+        }
+        
+        // Send message to player
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.EFFECT));
+    }
+}
@@ -0,0 +1,57 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Fake Block Glitch implementation.
+ * Shows the block in the player's hand at their feet for 30 seconds. Only clients see it; the world is unchanged.
+ */
+public class FakeBlockGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
+    private static final long COOLDOWN_MILLIS = 2 * 60 * 1000; // 2 minutes
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for FakeBlockGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public FakeBlockGlitch(GlitchComponents components) {
+        super(
+            GlitchType.FAKE_BLOCK,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        Material material = player.getInventory().getItemInMainHand().getType();
+        if (!material.isBlock() || material.isAir()) {
+            player.sendMessage(Messages.NO_FAKE_BLOCK_ITEM);
+            return;
+        }
+        
+        // Place the fake block on the player's lower half
+        components.getFakeBlockRegistry().place(player.getUniqueId(), player.getLocation(), material.createBlockData());
+        
+        // Send message to player
+        player.sendMessage(Messages.FAKE_BLOCK_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // Show everyone the real block again
+        components.getFakeBlockRegistry().remove(player.getUniqueId());
+        
+        // Send message to player
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.FAKE_BLOCK));
+    }
+}
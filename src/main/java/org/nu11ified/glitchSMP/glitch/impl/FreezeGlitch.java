@@ -0,0 +1,67 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+import java.util.UUID;
+
+/**
+ * Freeze Glitch implementation.
+ * Freezes the nearest player within 10 blocks in place for 30 seconds.
+ */
+public class FreezeGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
+    private static final long COOLDOWN_MILLIS = 5 * 60 * 1000; // 5 minutes
+    private static final double RANGE = 10; // Maximum distance to the frozen player
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for FreezeGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public FreezeGlitch(GlitchComponents components) {
+        super(
+            GlitchType.FREEZE,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        Player target = components.getPlayerSpatialIndex().findNearest(player, RANGE);
+        if (target == null) {
+            player.sendMessage(Messages.NO_FREEZE_TARGET);
+            return;
+        }
+        
+        // Lock the target in place until this glitch wears off
+        components.getFreezeLock().freeze(player.getUniqueId(), target);
+        
+        // Send messages to both players
+        player.sendMessage(Messages.FREEZE_ACTIVATED);
+        target.sendMessage(Messages.FROZEN);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // Release this player's freeze; the target stays frozen if another freeze still holds them
+        UUID thawed = components.getFreezeLock().release(player.getUniqueId());
+        if (thawed != null) {
+            Player target = Bukkit.getPlayer(thawed);
+            if (target != null) {
+                target.sendMessage(Messages.THAWED);
+            }
+        }
+        
+        // Send message to player
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.FREEZE));
+    }
+}
@@ -0,0 +1,52 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Glide Glitch implementation.
+ * Throws the player into the sky and lets them glide, without an elytra, until they land.
+ */
+public class GlideGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 0; // The glide lasts until the player lands
+    private static final long COOLDOWN_MILLIS = 15 * 60 * 1000; // 15 minutes
+    private static final double LAUNCH_VELOCITY = 2.5; // Roughly 30 blocks up
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for GlideGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public GlideGlitch(GlitchComponents components) {
+        super(
+            GlitchType.GLIDE,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        // Launch the player straight up, keeping their sideways momentum
+        Vector velocity = player.getVelocity();
+        velocity.setY(LAUNCH_VELOCITY);
+        player.setVelocity(velocity);
+        
+        components.getGlideTracker().launch(player);
+        
+        // Send message to player
+        player.sendMessage(Messages.GLIDE_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // No deactivation needed, the glide ends when the player lands
+    }
+}
@@ -1,92 +1,78 @@
 package org.nu11ified.glitchSMP.glitch.impl;
 
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageEvent;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.combat.CombatEffect;
+import org.nu11ified.glitchSMP.combat.CombatEffectHandler;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
-
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
+import org.nu11ified.glitchSMP.message.Messages;
 
 /**
  * Immunity Glitch implementation.
  * Makes the player immune to all damage for 30 seconds.
  */
-public class ImmunityGlitch extends Glitch implements Listener {
+public class ImmunityGlitch extends Glitch implements CombatEffectHandler {
     private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
     private static final long COOLDOWN_MILLIS = 5 * 60 * 1000; // 5 minutes
     
-    private final GlitchSMP plugin;
-    private final Set<UUID> immunePlayers = new HashSet<>();
+    private final GlitchComponents components;
     
     /**
      * Constructor for ImmunityGlitch
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
      */
-    public ImmunityGlitch(GlitchSMP plugin) {
+    public ImmunityGlitch(GlitchComponents components) {
         super(
-            GlitchType.IMMUNITY.getName(),
-            GlitchType.IMMUNITY.getDescription(),
+            GlitchType.IMMUNITY,
             COOLDOWN_MILLIS,
             DURATION_MILLIS
         );
-        this.plugin = plugin;
+        this.components = components;
+        
+        // Damage reaches this glitch through the combat router only while a player is immune
+        components.getCombatRouter().registerHandler(CombatEffect.IMMUNITY, this);
     }
     
     @Override
     protected void onActivate(Player player) {
-        // Register the event listener
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
-        
-        // Add player to immune set
-        immunePlayers.add(player.getUniqueId());
+        // Flag the player as immune
+        components.getCombatRouter().addEffect(player.getUniqueId(), CombatEffect.IMMUNITY);
         
         // Visual effect to show immunity
         player.setGlowing(true);
         
         // Send message to player
-        player.sendMessage("§aYou activated the Immunity Glitch! You are now immune to all damage for 30 seconds.");
+        player.sendMessage(Messages.IMMUNITY_ACTIVATED);
     }
     
     @Override
     protected void onDeactivate(Player player) {
-        // Remove player from immune set
-        immunePlayers.remove(player.getUniqueId());
+        // Remove the immunity flag
+        components.getCombatRouter().removeEffect(player.getUniqueId(), CombatEffect.IMMUNITY);
         
         // Remove visual effect
         player.setGlowing(false);
         
-        // If no more immune players, unregister the event listener
-        if (immunePlayers.isEmpty()) {
-            HandlerList.unregisterAll(this);
-        }
-        
         // Send message to player
-        player.sendMessage("§cYour Immunity Glitch has worn off.");
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.IMMUNITY));
     }
     
     /**
-     * Event handler for entity damage
      * Cancels damage for immune players
+     * 
+     * @param event The damage event
+     * @param victim The immune entity
      */
-    @EventHandler
-    public void onEntityDamage(EntityDamageEvent event) {
-        if (event.getEntity() instanceof Player) {
-            Player player = (Player) event.getEntity();
-            
-            if (immunePlayers.contains(player.getUniqueId())) {
-                // Cancel the damage event
-                event.setCancelled(true);
-                
-                // Visual feedback
-                player.getWorld().strikeLightningEffect(player.getLocation());
-            }
-        }
+    @Override
+    public void onVictimDamaged(EntityDamageEvent event, Entity victim) {
+        // Cancel the damage event
+        event.setCancelled(true);
+        
+        // Visual feedback
+        victim.getWorld().strikeLightningEffect(victim.getLocation());
     }
-}
\ No newline at end of file
+}
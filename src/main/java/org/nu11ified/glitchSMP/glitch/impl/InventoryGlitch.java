@@ -0,0 +1,81 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Inventory Glitch implementation.
+ * Scrambles the hotbar and main inventory of the nearest player within 10 blocks. Has no cooldown.
+ */
+public class InventoryGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 0; // Instant effect
+    private static final long COOLDOWN_MILLIS = 0; // No cooldown, it's very sudden
+    private static final double RANGE = 10; // Maximum distance to the scrambled player
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for InventoryGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public InventoryGlitch(GlitchComponents components) {
+        super(
+            GlitchType.INVENTORY,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        Player target = components.getPlayerSpatialIndex().findNearest(player, RANGE);
+        if (target == null) {
+            player.sendMessage(Messages.NO_INVENTORY_TARGET);
+            return;
+        }
+        
+        scramble(target.getInventory());
+        
+        // Send the whole inventory in one packet instead of one slot update per moved item
+        target.updateInventory();
+        
+        // Send messages to both players
+        player.sendMessage(Messages.INVENTORY_ACTIVATED);
+        target.sendMessage(Messages.INVENTORY_SCRAMBLED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // No-op, the scramble is permanent
+    }
+    
+    /**
+     * Shuffles the hotbar and main inventory in one read and one write.
+     * The storage contents are already a copy, so they are shuffled in place with the thread's own random.
+     * 
+     * @param inventory The inventory to scramble
+     */
+    public static void scramble(PlayerInventory inventory) {
+        ItemStack[] contents = inventory.getStorageContents();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        // Fisher-Yates shuffle
+        for (int i = contents.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            ItemStack swap = contents[i];
+            contents[i] = contents[j];
+            contents[j] = swap;
+        }
+        
+        inventory.setStorageContents(contents);
+    }
+}
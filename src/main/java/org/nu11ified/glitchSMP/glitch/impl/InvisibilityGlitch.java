@@ -6,6 +6,7 @@ import org.bukkit.potion.PotionEffectType;
 import org.nu11ified.glitchSMP.GlitchSMP;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
 
 /**
  * Invisibility Glitch implementation.
@@ -20,8 +21,7 @@ public class InvisibilityGlitch extends Glitch {
      */
     public InvisibilityGlitch() {
         super(
-            GlitchType.INVISIBILITY.getName(),
-            GlitchType.INVISIBILITY.getDescription(),
+            GlitchType.INVISIBILITY,
             COOLDOWN_MILLIS,
             DURATION_MILLIS
         );
@@ -40,7 +40,7 @@ public class InvisibilityGlitch extends Glitch {
         ));
         
         // Send message to player
-        player.sendMessage("§aYou activated the Invisibility Glitch! You are now completely invisible for 30 seconds.");
+        player.sendMessage(Messages.INVISIBILITY_ACTIVATED);
     }
     
     @Override
@@ -49,6 +49,6 @@ public class InvisibilityGlitch extends Glitch {
         player.removePotionEffect(PotionEffectType.INVISIBILITY);
         
         // Send message to player
-        player.sendMessage("§cYour Invisibility Glitch has worn off.");
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.INVISIBILITY));
     }
 }
\ No newline at end of file
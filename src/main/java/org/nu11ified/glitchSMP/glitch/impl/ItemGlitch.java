@@ -0,0 +1,68 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+import java.util.UUID;
+
+/**
+ * Item Glitch implementation.
+ * Makes the weapons of the nearest player within 10 blocks useless for 30 seconds.
+ */
+public class ItemGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
+    private static final long COOLDOWN_MILLIS = 2 * 60 * 1000; // 2 minutes
+    private static final long DISABLE_TICKS = DURATION_MILLIS / 50; // Backstop in case the glitch never ends
+    private static final double RANGE = 10; // Maximum distance to the disabled player
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for ItemGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public ItemGlitch(GlitchComponents components) {
+        super(
+            GlitchType.ITEM,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        Player target = components.getPlayerSpatialIndex().findNearest(player, RANGE);
+        if (target == null) {
+            player.sendMessage(Messages.NO_ITEM_TARGET);
+            return;
+        }
+        
+        // Weapons stay disabled until this glitch wears off; no item is touched
+        components.getWeaponLock().disable(player.getUniqueId(), target.getUniqueId(), DISABLE_TICKS);
+        
+        // Send messages to both players
+        player.sendMessage(Messages.ITEM_ACTIVATED);
+        target.sendMessage(Messages.WEAPONS_DISABLED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // Release this player's disable; the target stays disabled if another disable still holds them
+        UUID enabled = components.getWeaponLock().release(player.getUniqueId());
+        if (enabled != null) {
+            Player target = Bukkit.getPlayer(enabled);
+            if (target != null) {
+                target.sendMessage(Messages.WEAPONS_ENABLED);
+            }
+        }
+        
+        // Send message to player
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.ITEM));
+    }
+}
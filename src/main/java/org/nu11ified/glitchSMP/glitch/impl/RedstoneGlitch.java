@@ -0,0 +1,50 @@
+package org.nu11ified.glitchSMP.glitch.impl;
+
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+
+/**
+ * Redstone Glitch implementation.
+ * Deactivates all redstone in the player's world for 30 seconds.
+ */
+public class RedstoneGlitch extends Glitch {
+    private static final long DURATION_MILLIS = 30 * 1000; // 30 seconds
+    private static final long COOLDOWN_MILLIS = 5 * 60 * 1000; // 5 minutes
+    
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for RedstoneGlitch
+     * 
+     * @param components The plugin's components
+     */
+    public RedstoneGlitch(GlitchComponents components) {
+        super(
+            GlitchType.REDSTONE,
+            COOLDOWN_MILLIS,
+            DURATION_MILLIS
+        );
+        this.components = components;
+    }
+    
+    @Override
+    protected void onActivate(Player player) {
+        // Suppress redstone in the world the player is in; overlapping activations stack
+        components.getRedstoneSuppressor().suppress(player.getUniqueId(), player.getWorld());
+        
+        // Send message to player
+        player.sendMessage(Messages.REDSTONE_ACTIVATED);
+    }
+    
+    @Override
+    protected void onDeactivate(Player player) {
+        // Release this player's suppression; redstone restarts once no other activation holds the world
+        components.getRedstoneSuppressor().release(player.getUniqueId());
+        
+        // Send message to player
+        player.sendMessage(Messages.WORN_OFF.get(GlitchType.REDSTONE));
+    }
+}
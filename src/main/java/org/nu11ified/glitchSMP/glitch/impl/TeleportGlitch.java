@@ -6,9 +6,10 @@ import org.bukkit.Sound;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.util.BlockIterator;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
 
 /**
  * Teleport Glitch implementation.
@@ -22,12 +23,11 @@ public class TeleportGlitch extends Glitch {
     /**
      * Constructor for TeleportGlitch
      * 
-     * @param plugin The main plugin instance (not used)
+     * @param components The plugin's components (not used)
      */
-    public TeleportGlitch(GlitchSMP plugin) {
+    public TeleportGlitch(GlitchComponents components) {
         super(
-            GlitchType.TELEPORT.getName(),
-            GlitchType.TELEPORT.getDescription(),
+            GlitchType.TELEPORT,
             COOLDOWN_MILLIS,
             DURATION_MILLIS
         );
@@ -39,7 +39,7 @@ public class TeleportGlitch extends Glitch {
         Block targetBlock = getTargetBlock(player, MAX_DISTANCE);
         
         if (targetBlock == null) {
-            player.sendMessage("§cNo valid teleport location found within range.");
+            player.sendMessage(Messages.NO_TELEPORT_LOCATION);
             return;
         }
         
@@ -86,7 +86,7 @@ public class TeleportGlitch extends Glitch {
         );
         
         // Send message to player
-        player.sendMessage("§aYou activated the Teleport Glitch!");
+        player.sendMessage(Messages.TELEPORT_ACTIVATED);
     }
     
     @Override
@@ -1,6 +1,6 @@
 package org.nu11ified.glitchSMP.manager;
 
-import org.bukkit.ChatColor;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -8,13 +8,12 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.event.player.PlayerToggleSneakEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -23,23 +22,23 @@ import java.util.UUID;
  * Handles offhand keybind and crouch detection for activating equipped glitches.
  */
 public class ActivationManager implements Listener {
-    private final GlitchSMP plugin;
+    private final GlitchComponents components;
     private final GlitchManager glitchManager;
     
-    // Track which glitch slot each player is currently using
-    private final Map<UUID, Integer> currentGlitchSlot = new HashMap<>();
+    private static final Component[] EMPTY_SLOT_MESSAGES = {Messages.NO_RIGHT_GLITCH, Messages.NO_LEFT_GLITCH};
+    private static final Component[] USED_SLOT_MESSAGES = {Messages.USED_RIGHT_SLOT, Messages.USED_LEFT_SLOT};
     
-    // Track sneaking state for each player
-    private final Map<UUID, Boolean> playerSneaking = new HashMap<>();
+    // Map of player UUIDs to their sneaking state and last used slot
+    private final Map<UUID, PlayerInput> playerInputs = new HashMap<>();
     
     /**
      * Constructor for ActivationManager
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
      * @param glitchManager The glitch manager instance
      */
-    public ActivationManager(GlitchSMP plugin, GlitchManager glitchManager) {
-        this.plugin = plugin;
+    public ActivationManager(GlitchComponents components, GlitchManager glitchManager) {
+        this.components = components;
         this.glitchManager = glitchManager;
     }
     
@@ -54,42 +53,31 @@ public class ActivationManager implements Listener {
         ItemStack item = event.getItem();
         
         // Check if the player is right-clicking with a glitch item
-        if (item != null && isGlitchItem(item)) {
+        GlitchType glitchType = components.getGlitchItems().getType(item);
+        if (glitchType != null) {
             event.setCancelled(true); // Prevent default item usage
             
-            // Get the glitch type from the item
-            GlitchType glitchType = getGlitchTypeFromItem(item);
-            if (glitchType != null) {
-                // Check if player already owns this glitch
-                boolean alreadyOwned = false;
-                for (Glitch ownedGlitch : glitchManager.getOwnedGlitches(player)) {
-                    if (ownedGlitch.getName().equals(glitchType.getName())) {
-                        alreadyOwned = true;
-                        break;
-                    }
-                }
+            // Check if player already owns this glitch
+            if (!glitchManager.ownsGlitch(player, glitchType)) {
+                // Give the glitch to the player
+                Glitch glitch = components.getGlitchFactory().getGlitch(glitchType);
+                boolean success = glitchManager.giveGlitch(player, glitch);
                 
-                if (!alreadyOwned) {
-                    // Give the glitch to the player
-                    Glitch glitch = plugin.getGlitchFactory().createGlitch(glitchType);
-                    boolean success = glitchManager.giveGlitch(player, glitch);
+                if (success) {
+                    player.sendMessage(Messages.RECEIVED.get(glitchType));
+                    player.sendMessage(Messages.EQUIP_GLITCH_HINT.get(glitchType));
                     
-                    if (success) {
-                        player.sendMessage(ChatColor.GREEN + "You received " + glitch.getName() + "!");
-                        player.sendMessage(ChatColor.YELLOW + "Use /glitch equip " + glitchType.getName().replace(" Glitch", "") + " to equip it.");
-                        
-                        // Remove the glitch item from inventory
-                        if (item.getAmount() > 1) {
-                            item.setAmount(item.getAmount() - 1);
-                        } else {
-                            player.getInventory().removeItem(item);
-                        }
+                    // Remove the glitch item from inventory
+                    if (item.getAmount() > 1) {
+                        item.setAmount(item.getAmount() - 1);
                     } else {
-                        player.sendMessage(ChatColor.RED + "You already own " + glitch.getName());
+                        player.getInventory().removeItem(item);
                     }
                 } else {
-                    player.sendMessage(ChatColor.YELLOW + "You already own " + glitchType.getName());
+                    player.sendMessage(Messages.ALREADY_OWNED.get(glitchType));
                 }
+            } else {
+                player.sendMessage(Messages.ALREADY_OWNED.get(glitchType));
             }
         }
     }
@@ -102,52 +90,52 @@ public class ActivationManager implements Listener {
     @EventHandler
     public void onPlayerSwapHandItems(PlayerSwapHandItemsEvent event) {
         Player player = event.getPlayer();
-        UUID playerUUID = player.getUniqueId();
         
         // Cancel the default offhand swap behavior
         event.setCancelled(true);
         
-        // Get the player's equipped glitches
-        List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(player);
-        
-        if (equippedGlitches.isEmpty()) {
-            player.sendMessage(ChatColor.RED + "You don't have any glitches equipped!");
-            player.sendMessage(ChatColor.YELLOW + "Use /glitch equip <glitch> to equip a glitch.");
-            return;
-        }
-        
         // Determine which glitch to activate based on sneaking state
-        boolean isSneaking = playerSneaking.getOrDefault(playerUUID, false);
-        int glitchIndex = isSneaking ? 1 : 0; // Left slot (1) if sneaking, right slot (0) if not
-        
-        // Ensure the glitch index is valid
-        if (glitchIndex >= equippedGlitches.size()) {
-            player.sendMessage(ChatColor.RED + "No glitch equipped in " + (isSneaking ? "left" : "right") + " slot!");
-            return;
-        }
+        PlayerInput input = playerInputs.get(player.getUniqueId());
+        int glitchIndex = input != null && input.sneaking ? 1 : 0; // Left slot (1) if sneaking, right slot (0) if not
         
         // Get the glitch to activate
-        Glitch glitchToActivate = equippedGlitches.get(glitchIndex);
+        Glitch glitchToActivate = glitchManager.getEquippedGlitch(player, glitchIndex);
         
-        // Try to activate the glitch
-        boolean success = glitchManager.activateGlitch(player, glitchToActivate);
-        
-        if (success) {
-            player.sendMessage(ChatColor.GREEN + "Activated " + glitchToActivate.getName() + "!");
-            
-            // Show which slot was used
-            String slotName = isSneaking ? "left" : "right";
-            player.sendMessage(ChatColor.GRAY + "Used " + slotName + " glitch slot");
-            
-            // Update the current glitch slot
-            currentGlitchSlot.put(playerUUID, glitchIndex);
-        } else {
-            if (glitchToActivate.isOnCooldown()) {
-                long cooldownSeconds = glitchToActivate.getRemainingCooldown() / 1000;
-                player.sendMessage(ChatColor.RED + glitchToActivate.getName() + " is on cooldown for " + cooldownSeconds + " more seconds!");
+        if (glitchToActivate == null) {
+            if (glitchManager.getEquippedGlitchCount(player) == 0) {
+                player.sendMessage(Messages.NONE_EQUIPPED);
+                player.sendMessage(Messages.EQUIP_HINT);
             } else {
-                player.sendMessage(ChatColor.RED + "Failed to activate " + glitchToActivate.getName());
+                player.sendMessage(EMPTY_SLOT_MESSAGES[glitchIndex]);
             }
+            return;
+        }
+        
+        // Try to activate the glitch, and use the reason it gives instead of checking the cooldown again
+        GlitchType type = glitchToActivate.getType();
+        switch (glitchManager.activateGlitch(player, glitchToActivate)) {
+            case ACTIVATED:
+                player.sendMessage(Messages.ACTIVATED.get(type));
+                
+                // Show which slot was used
+                player.sendMessage(USED_SLOT_MESSAGES[glitchIndex]);
+                
+                // Update the current glitch slot
+                if (input != null) {
+                    input.currentSlot = glitchIndex;
+                }
+                break;
+            case ON_COOLDOWN:
+                // Only refused activations look the time up again, so the common paths pay nothing for it
+                long cooldownSeconds = glitchManager.getRemainingCooldown(player, glitchToActivate) / 1000;
+                player.sendMessage(Messages.ON_COOLDOWN.get(type, cooldownSeconds));
+                break;
+            case DIFFUSED:
+                player.sendMessage(Messages.DIFFUSED.get(glitchManager.getRemainingDiffusion() / 1000));
+                break;
+            default:
+                player.sendMessage(Messages.ACTIVATION_FAILED.get(type));
+                break;
         }
     }
     
@@ -159,69 +147,21 @@ public class ActivationManager implements Listener {
     @EventHandler
     public void onPlayerToggleSneak(PlayerToggleSneakEvent event) {
         Player player = event.getPlayer();
-        UUID playerUUID = player.getUniqueId();
         
         // Update the sneaking state
-        playerSneaking.put(playerUUID, event.isSneaking());
+        getOrCreateInput(player.getUniqueId()).sneaking = event.isSneaking();
         
         // Show which glitch slot will be used
+        int equippedCount = glitchManager.getEquippedGlitchCount(player);
         if (event.isSneaking()) {
-            List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(player);
-            if (equippedGlitches.size() > 1) {
-                player.sendMessage(ChatColor.YELLOW + "Left glitch slot selected (use offhand keybind to activate)");
+            if (equippedCount > 1) {
+                player.sendMessage(Messages.LEFT_SLOT_SELECTED);
             }
         } else {
-            List<Glitch> equippedGlitches = glitchManager.getEquippedGlitches(player);
-            if (!equippedGlitches.isEmpty()) {
-                player.sendMessage(ChatColor.YELLOW + "Right glitch slot selected (use offhand keybind to activate)");
-            }
-        }
-    }
-    
-    /**
-     * Checks if an item is a glitch item
-     * 
-     * @param item The item to check
-     * @return true if it's a glitch item, false otherwise
-     */
-    private boolean isGlitchItem(ItemStack item) {
-        if (item.getType() != org.bukkit.Material.NETHER_STAR) {
-            return false;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) {
-            return false;
-        }
-        
-        String displayName = meta.getDisplayName();
-        return displayName.contains("Glitch");
-    }
-    
-    /**
-     * Gets the glitch type from a glitch item
-     * 
-     * @param item The glitch item
-     * @return The glitch type, or null if not found
-     */
-    private GlitchType getGlitchTypeFromItem(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) {
-            return null;
-        }
-        
-        String displayName = meta.getDisplayName();
-        // Remove color codes and "Glitch" suffix
-        String cleanName = ChatColor.stripColor(displayName).replace(" Glitch", "");
-        
-        // Try to find the matching glitch type
-        for (GlitchType type : GlitchType.values()) {
-            if (type.getName().equals(cleanName + " Glitch")) {
-                return type;
+            if (equippedCount > 0) {
+                player.sendMessage(Messages.RIGHT_SLOT_SELECTED);
             }
         }
-        
-        return null;
     }
     
     /**
@@ -231,7 +171,8 @@ public class ActivationManager implements Listener {
      * @return The current glitch slot index (0 for right, 1 for left)
      */
     public int getCurrentGlitchSlot(Player player) {
-        return currentGlitchSlot.getOrDefault(player.getUniqueId(), 0);
+        PlayerInput input = playerInputs.get(player.getUniqueId());
+        return input != null ? input.currentSlot : 0;
     }
     
     /**
@@ -241,7 +182,8 @@ public class ActivationManager implements Listener {
      * @return true if sneaking, false otherwise
      */
     public boolean isPlayerSneaking(Player player) {
-        return playerSneaking.getOrDefault(player.getUniqueId(), false);
+        PlayerInput input = playerInputs.get(player.getUniqueId());
+        return input != null && input.sneaking;
     }
     
     /**
@@ -250,8 +192,29 @@ public class ActivationManager implements Listener {
      * @param player The player
      */
     public void cleanupPlayerData(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        currentGlitchSlot.remove(playerUUID);
-        playerSneaking.remove(playerUUID);
+        playerInputs.remove(player.getUniqueId());
+    }
+    
+    /**
+     * Gets a player's input state, creating it the first time they sneak
+     * 
+     * @param playerUUID The player's UUID
+     * @return The player's input state
+     */
+    private PlayerInput getOrCreateInput(UUID playerUUID) {
+        PlayerInput input = playerInputs.get(playerUUID);
+        if (input == null) {
+            input = new PlayerInput();
+            playerInputs.put(playerUUID, input);
+        }
+        return input;
+    }
+    
+    /**
+     * A player's sneaking state and last used glitch slot
+     */
+    private static final class PlayerInput {
+        private boolean sneaking;
+        private int currentSlot;
     }
 }
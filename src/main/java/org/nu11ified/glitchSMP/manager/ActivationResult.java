@@ -0,0 +1,25 @@
+package org.nu11ified.glitchSMP.manager;
+
+/**
+ * Outcome of an attempt to activate a glitch.
+ * Returned by activation so callers can explain a failure without querying the player's state again.
+ */
+public enum ActivationResult {
+    // The glitch was activated
+    ACTIVATED,
+    // The glitch is not one of the player's equipped glitches
+    NOT_EQUIPPED,
+    // The glitch is still on cooldown
+    ON_COOLDOWN,
+    // Every glitch is diffused by a Diffuser Glitch
+    DIFFUSED;
+    
+    /**
+     * Checks if the glitch was activated
+     * 
+     * @return true if activated, false otherwise
+     */
+    public boolean isSuccess() {
+        return this == ACTIVATED;
+    }
+}
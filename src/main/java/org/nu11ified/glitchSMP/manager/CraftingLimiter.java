@@ -1,8 +1,6 @@
 package org.nu11ified.glitchSMP.manager;
 
-import org.bukkit.ChatColor;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -10,39 +8,32 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.Glitch;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
-import java.util.UUID;
 
 /**
  * Manages crafting limitations and death mechanics for glitches.
  * Ensures players can only have 2 glitches and handles glitch dropping on death.
  */
 public class CraftingLimiter implements Listener {
-    private final GlitchSMP plugin;
+    private final GlitchComponents components;
     private final GlitchManager glitchManager;
     
-    // Track how many glitches each player has crafted
-    private final Map<UUID, Integer> craftedGlitchCount = new HashMap<>();
-    
     // Random generator for selecting which glitch to drop
     private final Random random = new Random();
     
     /**
      * Constructor for CraftingLimiter
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
      * @param glitchManager The glitch manager instance
      */
-    public CraftingLimiter(GlitchSMP plugin, GlitchManager glitchManager) {
-        this.plugin = plugin;
+    public CraftingLimiter(GlitchComponents components, GlitchManager glitchManager) {
+        this.components = components;
         this.glitchManager = glitchManager;
     }
     
@@ -61,17 +52,17 @@ public class CraftingLimiter implements Listener {
         ItemStack result = event.getCurrentItem();
         
         // Check if the crafted item is a glitch
-        if (isGlitchItem(result)) {
+        if (components.getGlitchItems().isGlitchItem(result)) {
             // Check if player has reached the glitch limit
             if (hasReachedGlitchLimit(player)) {
                 event.setCancelled(true);
-                player.sendMessage(ChatColor.RED + "You can only craft 2 glitches! You must die to lose one before crafting another.");
+                player.sendMessage(Messages.CRAFT_LIMIT_REACHED);
                 return;
             }
             
             // Increment the crafted glitch count
             incrementCraftedGlitchCount(player);
-            player.sendMessage(ChatColor.GREEN + "Glitch crafted! You have " + getCraftedGlitchCount(player) + "/2 glitches.");
+            player.sendMessage(Messages.CRAFTED.get(getCraftedGlitchCount(player)));
         }
     }
     
@@ -99,21 +90,21 @@ public class CraftingLimiter implements Listener {
         glitchManager.removeGlitch(player, glitchToDrop);
         
         // Create a glitch item to drop
-        ItemStack glitchItem = createGlitchItem(glitchToDrop);
+        ItemStack glitchItem = components.getGlitchItems().createItem(glitchToDrop.getType());
         
         // Drop the glitch item at the death location
         Location deathLocation = player.getLocation();
         player.getWorld().dropItemNaturally(deathLocation, glitchItem);
         
         // Send message to the player
-        player.sendMessage(ChatColor.RED + "You dropped " + glitchToDrop.getName() + " on death!");
+        player.sendMessage(Messages.DROPPED_ON_DEATH.get(glitchToDrop.getType()));
         
         // Decrement the crafted glitch count
         decrementCraftedGlitchCount(player);
         
         // Send message about being able to craft again
         if (getCraftedGlitchCount(player) < 2) {
-            player.sendMessage(ChatColor.YELLOW + "You can now craft " + (2 - getCraftedGlitchCount(player)) + " more glitch(es).");
+            player.sendMessage(Messages.CAN_CRAFT_MORE.get(2 - getCraftedGlitchCount(player)));
         }
     }
     
@@ -127,36 +118,32 @@ public class CraftingLimiter implements Listener {
         Player player = event.getPlayer();
         ItemStack item = event.getItem().getItemStack();
         
-        // Check if the picked up item is a glitch
-        if (isGlitchItem(item)) {
-            GlitchType glitchType = getGlitchTypeFromItem(item);
-            if (glitchType != null) {
-                // Check if player already owns this glitch
-                boolean alreadyOwned = false;
-                for (Glitch ownedGlitch : glitchManager.getOwnedGlitches(player)) {
-                    if (ownedGlitch.getName().equals(glitchType.getName())) {
-                        alreadyOwned = true;
-                        break;
-                    }
-                }
-                
-                if (alreadyOwned) {
-                    event.setCancelled(true);
-                    player.sendMessage(ChatColor.RED + "You already own " + glitchType.getName() + "! You cannot pick up duplicate glitches.");
-                    return;
-                }
-                
-                // Check if player has reached the glitch limit
-                if (hasReachedGlitchLimit(player)) {
-                    event.setCancelled(true);
-                    player.sendMessage(ChatColor.RED + "You can only have 2 glitches! You must die to lose one before picking up another.");
-                    return;
-                }
-                
-                // Increment the crafted glitch count (since they're getting a glitch)
-                incrementCraftedGlitchCount(player);
-                player.sendMessage(ChatColor.GREEN + "You picked up " + glitchType.getName() + "! You now have " + getCraftedGlitchCount(player) + "/2 glitches.");
+        // Check if the picked up item is a glitch, noting whether identifying it tags a legacy item
+        boolean wasTagged = components.getGlitchItems().isTagged(item);
+        GlitchType glitchType = components.getGlitchItems().getType(item);
+        if (glitchType != null) {
+            // Check if player already owns this glitch
+            if (glitchManager.ownsGlitch(player, glitchType)) {
+                event.setCancelled(true);
+                player.sendMessage(Messages.DUPLICATE_PICKUP.get(glitchType));
+                return;
+            }
+            
+            // Check if player has reached the glitch limit
+            if (hasReachedGlitchLimit(player)) {
+                event.setCancelled(true);
+                player.sendMessage(Messages.PICKUP_LIMIT_REACHED);
+                return;
+            }
+            
+            // The event hands out a copy; write it back only if a legacy item was just tagged, so it stays tagged
+            if (!wasTagged) {
+                event.getItem().setItemStack(item);
             }
+            
+            // Increment the crafted glitch count (since they're getting a glitch)
+            incrementCraftedGlitchCount(player);
+            player.sendMessage(Messages.PICKED_UP.get(glitchType, getCraftedGlitchCount(player)));
         }
     }
     
@@ -177,7 +164,7 @@ public class CraftingLimiter implements Listener {
      * @return The number of crafted glitches
      */
     private int getCraftedGlitchCount(Player player) {
-        return craftedGlitchCount.getOrDefault(player.getUniqueId(), 0);
+        return glitchManager.getCraftedGlitchCount(player);
     }
     
     /**
@@ -186,9 +173,7 @@ public class CraftingLimiter implements Listener {
      * @param player The player
      */
     private void incrementCraftedGlitchCount(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        int currentCount = craftedGlitchCount.getOrDefault(playerUUID, 0);
-        craftedGlitchCount.put(playerUUID, currentCount + 1);
+        glitchManager.setCraftedGlitchCount(player, getCraftedGlitchCount(player) + 1);
     }
     
     /**
@@ -197,86 +182,10 @@ public class CraftingLimiter implements Listener {
      * @param player The player
      */
     private void decrementCraftedGlitchCount(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        int currentCount = craftedGlitchCount.getOrDefault(playerUUID, 0);
+        int currentCount = getCraftedGlitchCount(player);
         if (currentCount > 0) {
-            craftedGlitchCount.put(playerUUID, currentCount - 1);
-        }
-    }
-    
-    /**
-     * Checks if an item is a glitch item
-     * 
-     * @param item The item to check
-     * @return true if it's a glitch item, false otherwise
-     */
-    private boolean isGlitchItem(ItemStack item) {
-        if (item.getType() != Material.NETHER_STAR) {
-            return false;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) {
-            return false;
-        }
-        
-        String displayName = meta.getDisplayName();
-        return displayName.contains("Glitch");
-    }
-    
-    /**
-     * Gets the glitch type from a glitch item
-     * 
-     * @param item The glitch item
-     * @return The glitch type, or null if not found
-     */
-    private GlitchType getGlitchTypeFromItem(ItemStack item) {
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) {
-            return null;
-        }
-        
-        String displayName = meta.getDisplayName();
-        // Remove color codes and "Glitch" suffix
-        String cleanName = ChatColor.stripColor(displayName).replace(" Glitch", "");
-        
-        // Try to find the matching glitch type
-        for (GlitchType type : GlitchType.values()) {
-            if (type.getName().equals(cleanName + " Glitch")) {
-                return type;
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Creates a glitch item for the given glitch
-     * 
-     * @param glitch The glitch
-     * @return The glitch item
-     */
-    private ItemStack createGlitchItem(Glitch glitch) {
-        ItemStack item = new ItemStack(Material.NETHER_STAR);
-        ItemMeta meta = item.getItemMeta();
-        
-        if (meta != null) {
-            meta.setDisplayName(ChatColor.LIGHT_PURPLE + glitch.getName());
-            
-            // Add lore
-            List<String> lore = new java.util.ArrayList<>();
-            lore.add(ChatColor.GRAY + glitch.getDescription());
-            lore.add("");
-            lore.add(ChatColor.YELLOW + "Right-click to equip this glitch");
-            lore.add(ChatColor.YELLOW + "Use /glitch list to see your glitches");
-            
-            meta.setLore(lore);
-            meta.setUnbreakable(true);
-            
-            item.setItemMeta(meta);
+            glitchManager.setCraftedGlitchCount(player, currentCount - 1);
         }
-        
-        return item;
     }
     
     /**
@@ -285,8 +194,8 @@ public class CraftingLimiter implements Listener {
      * @param player The player
      */
     public void cleanupPlayerData(Player player) {
-        // Note: We don't remove crafted glitch count on disconnect
-        // This ensures the limit persists across sessions
+        // Note: The crafted glitch count is stored with the player's glitch data
+        // by the GlitchManager, so the limit persists across sessions and restarts
     }
     
     /**
@@ -305,7 +214,7 @@ public class CraftingLimiter implements Listener {
      * @param player The player
      */
     public void resetCraftedGlitchCount(Player player) {
-        craftedGlitchCount.remove(player.getUniqueId());
-        player.sendMessage(ChatColor.GREEN + "Your glitch crafting count has been reset!");
+        glitchManager.setCraftedGlitchCount(player, 0);
+        player.sendMessage(Messages.CRAFT_COUNT_RESET);
     }
 }
@@ -0,0 +1,14 @@
+package org.nu11ified.glitchSMP.manager;
+
+/**
+ * Receives diffusions from the {@link GlitchManager}.
+ * Implemented by effects that outlive their glitch's duration timer, such as glides, so a Diffuser Glitch
+ * ends them along with every timed effect.
+ */
+public interface DiffuseListener {
+    
+    /**
+     * Called when every glitch is diffused; ends all running effects the listener owns
+     */
+    void onDiffuse();
+}
@@ -1,8 +1,13 @@
 package org.nu11ified.glitchSMP.manager;
 
 import org.bukkit.entity.Player;
-import org.nu11ified.glitchSMP.GlitchSMP;
+import org.nu11ified.glitchSMP.GlitchComponents;
 import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.message.Messages;
+import org.nu11ified.glitchSMP.scheduler.TimingWheel;
+import org.nu11ified.glitchSMP.storage.PlayerDataStore;
+import org.nu11ified.glitchSMP.storage.PlayerRecord;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -11,27 +16,130 @@ import java.util.concurrent.ConcurrentHashMap;
  * Manages glitches for all players on the server.
  */
 public class GlitchManager {
-    private final GlitchSMP plugin;
+    private final GlitchComponents components;
+    private final PlayerDataStore dataStore;
+    private final TimingWheel timingWheel;
     
     // Maximum number of glitches a player can equip
     private static final int MAX_EQUIPPED_GLITCHES = 2;
     
-    // Map of player UUIDs to their equipped glitches
-    private final Map<UUID, List<Glitch>> equippedGlitches = new ConcurrentHashMap<>();
+    // Map of player UUIDs to their owned, equipped, cooldown and active glitch state
+    private final Map<UUID, PlayerGlitchState> playerStates = new ConcurrentHashMap<>();
     
-    // Map of player UUIDs to their owned glitches
-    private final Map<UUID, Set<Glitch>> ownedGlitches = new ConcurrentHashMap<>();
+    // Duration timers of every glitch currently active on the server, so diffusing never scans all players
+    private final Set<GlitchTimer> activeTimers = new HashSet<>();
     
-    // Map of active glitches and their scheduled deactivation tasks
-    private final Map<UUID, Map<UUID, Integer>> activeGlitchTasks = new ConcurrentHashMap<>();
+    // Epoch millis until which no glitch can be activated; one volatile read per activation
+    private volatile long diffusedUntil;
+    
+    // Effects without a duration timer that diffusing has to end as well
+    private final List<DiffuseListener> diffuseListeners = new ArrayList<>();
+    
+    // Players whose state changed since the last save; a player is only added when their state turns dirty
+    private final List<UUID> dirtyPlayers = new ArrayList<>();
     
     /**
      * Constructor for GlitchManager
      * 
-     * @param plugin The main plugin instance
+     * @param components The plugin's components
+     * @param dataStore The store player glitch data is persisted to
+     * @param timingWheel The timing wheel glitch durations and cooldowns are timed on
+     */
+    public GlitchManager(GlitchComponents components, PlayerDataStore dataStore, TimingWheel timingWheel) {
+        this.components = components;
+        this.dataStore = dataStore;
+        this.timingWheel = timingWheel;
+    }
+    
+    /**
+     * Restores a player's owned and equipped glitches from their stored record
+     * 
+     * @param player The player to restore data for
+     * @param record The player's stored record
      */
-    public GlitchManager(GlitchSMP plugin) {
-        this.plugin = plugin;
+    public void loadPlayerData(Player player, PlayerRecord record) {
+        PlayerGlitchState state = new PlayerGlitchState(components.getGlitchFactory(), MAX_EQUIPPED_GLITCHES);
+        
+        for (GlitchType type : record.getOwnedGlitches()) {
+            state.addOwned(type);
+        }
+        
+        // Cooldowns are restored for every type, so one that was dropped still has its cooldown when picked up again
+        for (GlitchType type : GlitchType.values()) {
+            state.setLastActivationTime(type, record.getLastActivationTime(type));
+        }
+        
+        for (GlitchType type : record.getEquippedGlitches()) {
+            state.equip(type);
+        }
+        
+        state.setCraftedGlitchCount(record.getCraftedGlitchCount());
+        state.setLoaded(true);
+        
+        // A pickup, craft or activation before the load finished built a temporary state; fold it in
+        PlayerGlitchState previous = playerStates.get(player.getUniqueId());
+        boolean merged = previous != null && mergePreloadState(player, previous, state);
+        playerStates.put(player.getUniqueId(), state);
+        
+        // The stored record predates the merged changes, so write them back
+        if (merged) {
+            markDirty(player.getUniqueId(), state);
+        }
+        
+        // Announce cooldowns that were still running when the player left
+        long now = System.currentTimeMillis();
+        for (Glitch glitch : state.getOwnedView()) {
+            long remaining = getRemainingCooldown(state, glitch, now);
+            if (remaining > 0) {
+                scheduleCooldownReady(player, state, glitch, remaining);
+            }
+        }
+    }
+    
+    /**
+     * Ends a state built before a player's load finished and copies its changes into the loaded state.
+     * Such a state started out empty, so its ownership, equips and crafted count are all changes on top of the
+     * stored record. Its active glitches are deactivated, so effects such as combat flags never outlive it.
+     * 
+     * @param player The player
+     * @param previous The state built before the load finished
+     * @param state The state restored from the stored record
+     * @return true if the previous state held changes that were copied, false otherwise
+     */
+    private boolean mergePreloadState(Player player, PlayerGlitchState previous, PlayerGlitchState state) {
+        // Deactivating looks the state up by player, so this has to happen before the loaded one replaces it
+        for (GlitchType type : GlitchType.values()) {
+            if (previous.isActive(type)) {
+                deactivateGlitch(player, components.getGlitchFactory().getGlitch(type));
+            }
+            activeTimers.remove(previous.getDurationTimer(type));
+        }
+        previous.cancelTimers();
+        
+        // A state that was loaded itself is already in the stored record
+        if (previous.isLoaded()) {
+            return false;
+        }
+        
+        boolean changed = false;
+        for (GlitchType type : previous.getOwnedTypes()) {
+            changed |= state.addOwned(type);
+        }
+        for (GlitchType type : previous.getEquippedTypes()) {
+            changed |= state.equip(type);
+        }
+        for (GlitchType type : GlitchType.values()) {
+            long activated = previous.getLastActivationTime(type);
+            if (activated > state.getLastActivationTime(type)) {
+                state.setLastActivationTime(type, activated);
+                changed = true;
+            }
+        }
+        if (previous.getCraftedGlitchCount() > 0) {
+            state.setCraftedGlitchCount(state.getCraftedGlitchCount() + previous.getCraftedGlitchCount());
+            changed = true;
+        }
+        return changed;
     }
     
     /**
@@ -43,25 +151,14 @@ public class GlitchManager {
      */
     public boolean giveGlitch(Player player, Glitch glitch) {
         UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = getOrCreateState(playerUUID);
         
-        // Initialize collections if they don't exist
-        ownedGlitches.computeIfAbsent(playerUUID, k -> new HashSet<>());
-        
-        // Check if player already has this type of glitch
-        boolean alreadyOwned = false;
-        for (Glitch ownedGlitch : ownedGlitches.get(playerUUID)) {
-            if (ownedGlitch.getClass().equals(glitch.getClass())) {
-                alreadyOwned = true;
-                break;
-            }
-        }
-        
-        if (!alreadyOwned) {
-            ownedGlitches.get(playerUUID).add(glitch);
-            return true;
+        if (!state.addOwned(glitch.getType())) {
+            return false;
         }
         
-        return false;
+        markDirty(playerUUID, state);
+        return true;
     }
     
     /**
@@ -73,17 +170,20 @@ public class GlitchManager {
      */
     public boolean removeGlitch(Player player, Glitch glitch) {
         UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(playerUUID);
         
-        if (!ownedGlitches.containsKey(playerUUID)) {
+        if (state == null || state.getOwned(glitch.getType()) != glitch) {
             return false;
         }
         
         // If the glitch is equipped, unequip it first
-        if (isGlitchEquipped(player, glitch)) {
+        if (state.isEquipped(glitch.getType())) {
             unequipGlitch(player, glitch);
         }
         
-        return ownedGlitches.get(playerUUID).remove(glitch);
+        state.removeOwned(glitch.getType());
+        markDirty(playerUUID, state);
+        return true;
     }
     
     /**
@@ -95,22 +195,19 @@ public class GlitchManager {
      */
     public boolean equipGlitch(Player player, Glitch glitch) {
         UUID playerUUID = player.getUniqueId();
-        
-        // Initialize collections if they don't exist
-        equippedGlitches.computeIfAbsent(playerUUID, k -> new ArrayList<>());
+        PlayerGlitchState state = playerStates.get(playerUUID);
         
         // Check if player owns the glitch
-        if (!ownedGlitches.containsKey(playerUUID) || !ownedGlitches.get(playerUUID).contains(glitch)) {
+        if (state == null || state.getOwned(glitch.getType()) != glitch) {
             return false;
         }
         
-        // Check if player already has max glitches equipped
-        if (equippedGlitches.get(playerUUID).size() >= MAX_EQUIPPED_GLITCHES) {
+        // Equip the glitch if a slot is free
+        if (!state.equip(glitch.getType())) {
             return false;
         }
         
-        // Equip the glitch
-        equippedGlitches.get(playerUUID).add(glitch);
+        markDirty(playerUUID, state);
         return true;
     }
     
@@ -123,8 +220,9 @@ public class GlitchManager {
      */
     public boolean unequipGlitch(Player player, Glitch glitch) {
         UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(playerUUID);
         
-        if (!equippedGlitches.containsKey(playerUUID)) {
+        if (state == null || !state.isEquipped(glitch.getType())) {
             return false;
         }
         
@@ -133,7 +231,9 @@ public class GlitchManager {
             deactivateGlitch(player, glitch);
         }
         
-        return equippedGlitches.get(playerUUID).remove(glitch);
+        state.unequip(glitch.getType());
+        markDirty(playerUUID, state);
+        return true;
     }
     
     /**
@@ -141,38 +241,52 @@ public class GlitchManager {
      * 
      * @param player The player to activate the glitch for
      * @param glitch The glitch to activate
-     * @return true if the glitch was activated, false if the player doesn't have the glitch equipped or it's on cooldown
+     * @return ACTIVATED, or why the glitch could not be activated
      */
-    public boolean activateGlitch(Player player, Glitch glitch) {
+    public ActivationResult activateGlitch(Player player, Glitch glitch) {
         UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(playerUUID);
         
         // Check if player has the glitch equipped
-        if (!isGlitchEquipped(player, glitch)) {
-            return false;
+        if (state == null || !state.isEquipped(glitch.getType())) {
+            return ActivationResult.NOT_EQUIPPED;
         }
         
-        // Try to activate the glitch
-        if (!glitch.activate(player)) {
-            return false;
+        // Check if every glitch is diffused
+        long now = System.currentTimeMillis();
+        if (now < diffusedUntil) {
+            return ActivationResult.DIFFUSED;
         }
         
+        // Check if the glitch is on cooldown
+        if (getRemainingCooldown(state, glitch, now) > 0) {
+            return ActivationResult.ON_COOLDOWN;
+        }
+        
+        // Start the cooldown, then execute the glitch effect
+        state.setLastActivationTime(glitch.getType(), now);
+        glitch.activate(player);
+        
+        // Persist the new cooldown so it survives a relog
+        markDirty(playerUUID, state);
+        
         // If the glitch has a duration, schedule its deactivation
         if (glitch.getDurationMillis() > 0) {
-            // Initialize the map for this player if it doesn't exist
-            activeGlitchTasks.computeIfAbsent(playerUUID, k -> new HashMap<>());
-            
-            // Schedule the deactivation task
-            int taskId = plugin.getServer().getScheduler().scheduleSyncDelayedTask(
-                plugin,
-                () -> deactivateGlitch(player, glitch),
-                glitch.getDurationMillis() / 50 // Convert milliseconds to ticks (1 tick = 50ms)
-            );
-            
-            // Store the task ID
-            activeGlitchTasks.get(playerUUID).put(glitch.getId(), taskId);
+            GlitchTimer timer = state.getDurationTimer(glitch.getType());
+            if (timer == null) {
+                timer = new GlitchTimer(this, player, glitch, false);
+                state.setDurationTimer(glitch.getType(), timer);
+            }
+            timingWheel.schedule(timer, toTicks(glitch.getDurationMillis()));
+            activeTimers.add(timer);
         }
         
-        return true;
+        // Let the player know when they can use it again
+        if (glitch.getCooldownMillis() > 0) {
+            scheduleCooldownReady(player, state, glitch, glitch.getCooldownMillis());
+        }
+        
+        return ActivationResult.ACTIVATED;
     }
     
     /**
@@ -182,18 +296,75 @@ public class GlitchManager {
      * @param glitch The glitch to deactivate
      */
     public void deactivateGlitch(Player player, Glitch glitch) {
-        UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
         
         // Deactivate the glitch
         glitch.deactivate(player);
         
-        // Remove the task if it exists
-        if (activeGlitchTasks.containsKey(playerUUID) && activeGlitchTasks.get(playerUUID).containsKey(glitch.getId())) {
-            plugin.getServer().getScheduler().cancelTask(activeGlitchTasks.get(playerUUID).get(glitch.getId()));
-            activeGlitchTasks.get(playerUUID).remove(glitch.getId());
+        // Cancel the duration timer if it is still running
+        if (state != null) {
+            GlitchTimer timer = state.getDurationTimer(glitch.getType());
+            if (timer != null) {
+                timer.cancel();
+                activeTimers.remove(timer);
+            }
         }
     }
     
+    /**
+     * Diffuses every glitch: ends all active glitch effects and blocks activations for a while
+     * 
+     * @param durationMillis How long activations stay blocked in milliseconds
+     * @param exempt The glitch doing the diffusing, which keeps running
+     */
+    public void diffuse(long durationMillis, Glitch exempt) {
+        diffusedUntil = System.currentTimeMillis() + durationMillis;
+        
+        // Deactivating removes the timer from the index, so walk a snapshot
+        for (GlitchTimer timer : activeTimers.toArray(new GlitchTimer[0])) {
+            if (timer.getGlitch() == exempt) {
+                continue;
+            }
+            
+            deactivateGlitch(timer.getPlayer(), timer.getGlitch());
+        }
+        
+        for (DiffuseListener listener : diffuseListeners) {
+            listener.onDiffuse();
+        }
+    }
+    
+    /**
+     * Registers effects that are not timed by a glitch duration but still end when glitches are diffused
+     * 
+     * @param listener The listener
+     */
+    public void addDiffuseListener(DiffuseListener listener) {
+        diffuseListeners.add(listener);
+    }
+    
+    /**
+     * Tells a player that a glitch has come off cooldown
+     * 
+     * @param player The player
+     * @param glitch The glitch whose cooldown timer fired
+     */
+    void onCooldownReady(Player player, Glitch glitch) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        if (state == null || !state.owns(glitch.getType())) {
+            return;
+        }
+        
+        // Ticks can run behind or catch up faster than wall time, so check the clock before announcing
+        long remaining = getRemainingCooldown(state, glitch, System.currentTimeMillis());
+        if (remaining > 0) {
+            scheduleCooldownReady(player, state, glitch, remaining);
+            return;
+        }
+        
+        player.sendMessage(Messages.READY.get(glitch.getType()));
+    }
+    
     /**
      * Checks if a player has a glitch equipped
      * 
@@ -202,9 +373,85 @@ public class GlitchManager {
      * @return true if the player has the glitch equipped, false otherwise
      */
     public boolean isGlitchEquipped(Player player, Glitch glitch) {
-        UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null && state.isEquipped(glitch.getType());
+    }
+    
+    /**
+     * Checks if a player has a glitch type equipped
+     * 
+     * @param player The player to check
+     * @param type The glitch type to check for
+     * @return true if the player has the glitch type equipped, false otherwise
+     */
+    public boolean isGlitchEquipped(Player player, GlitchType type) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null && state.isEquipped(type);
+    }
+    
+    /**
+     * Checks if a player owns a glitch type
+     * 
+     * @param player The player to check
+     * @param type The glitch type to check for
+     * @return true if the player owns the glitch type, false otherwise
+     */
+    public boolean ownsGlitch(Player player, GlitchType type) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null && state.owns(type);
+    }
+    
+    /**
+     * Gets a player's glitch of the given type
+     * 
+     * @param player The player
+     * @param type The glitch type
+     * @return The owned glitch, or null if the player doesn't own the type
+     */
+    public Glitch getOwnedGlitch(Player player, GlitchType type) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null ? state.getOwned(type) : null;
+    }
+    
+    /**
+     * Gets the glitch a player has equipped in a slot
+     * 
+     * @param player The player
+     * @param slot The slot index (0 for right, 1 for left)
+     * @return The equipped glitch, or null if the slot is empty
+     */
+    public Glitch getEquippedGlitch(Player player, int slot) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null ? state.getEquipped(slot) : null;
+    }
+    
+    /**
+     * Gets the number of glitches a player owns
+     * 
+     * @param player The player
+     * @return The number of owned glitches
+     */
+    public int getOwnedGlitchCount(Player player) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
         
-        return equippedGlitches.containsKey(playerUUID) && equippedGlitches.get(playerUUID).contains(glitch);
+        return state != null ? state.getOwnedCount() : 0;
+    }
+    
+    /**
+     * Gets the number of glitches a player has equipped
+     * 
+     * @param player The player
+     * @return The number of equipped glitches
+     */
+    public int getEquippedGlitchCount(Player player) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null ? state.getEquippedCount() : 0;
     }
     
     /**
@@ -215,11 +462,55 @@ public class GlitchManager {
      * @return true if the glitch is active, false otherwise
      */
     public boolean isGlitchActive(Player player, Glitch glitch) {
-        UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null && state.isActive(glitch.getType());
+    }
+    
+    /**
+     * Checks if a glitch is on cooldown for a player
+     * 
+     * @param player The player to check
+     * @param glitch The glitch to check
+     * @return true if the glitch is on cooldown, false otherwise
+     */
+    public boolean isOnCooldown(Player player, Glitch glitch) {
+        return getRemainingCooldown(player, glitch) > 0;
+    }
+    
+    /**
+     * Gets the remaining cooldown of a glitch for a player
+     * 
+     * @param player The player
+     * @param glitch The glitch
+     * @return The remaining cooldown in milliseconds, or 0 if it is ready
+     */
+    public long getRemainingCooldown(Player player, Glitch glitch) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null ? getRemainingCooldown(state, glitch, System.currentTimeMillis()) : 0;
+    }
+    
+    /**
+     * Gets how long activations stay blocked by the last diffusion
+     * 
+     * @return The remaining diffusion in milliseconds, or 0 if nothing is diffused
+     */
+    public long getRemainingDiffusion() {
+        return Math.max(0, diffusedUntil - System.currentTimeMillis());
+    }
+    
+    /**
+     * Gets the remaining duration of a glitch for a player
+     * 
+     * @param player The player
+     * @param glitch The glitch
+     * @return The remaining duration in milliseconds, or 0 if it is not active
+     */
+    public long getRemainingDuration(Player player, Glitch glitch) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
         
-        return activeGlitchTasks.containsKey(playerUUID) && 
-               activeGlitchTasks.get(playerUUID).containsKey(glitch.getId()) &&
-               glitch.isActive();
+        return state != null ? getRemainingDuration(state, glitch, System.currentTimeMillis()) : 0;
     }
     
     /**
@@ -229,13 +520,9 @@ public class GlitchManager {
      * @return A set of glitches owned by the player
      */
     public Set<Glitch> getOwnedGlitches(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        
-        if (!ownedGlitches.containsKey(playerUUID)) {
-            return Collections.emptySet();
-        }
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
         
-        return Collections.unmodifiableSet(ownedGlitches.get(playerUUID));
+        return state != null ? state.getOwnedView() : Collections.emptySet();
     }
     
     /**
@@ -245,13 +532,9 @@ public class GlitchManager {
      * @return A list of glitches equipped by the player
      */
     public List<Glitch> getEquippedGlitches(Player player) {
-        UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
         
-        if (!equippedGlitches.containsKey(playerUUID)) {
-            return Collections.emptyList();
-        }
-        
-        return Collections.unmodifiableList(equippedGlitches.get(playerUUID));
+        return state != null ? state.getEquippedView() : Collections.emptyList();
     }
     
     /**
@@ -261,20 +544,161 @@ public class GlitchManager {
      */
     public void cleanupPlayerData(Player player) {
         UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = playerStates.get(playerUUID);
         
         // Deactivate any active glitches
-        if (equippedGlitches.containsKey(playerUUID)) {
-            for (Glitch glitch : equippedGlitches.get(playerUUID)) {
+        if (state != null) {
+            for (Glitch glitch : state.getEquippedView()) {
                 if (isGlitchActive(player, glitch)) {
                     deactivateGlitch(player, glitch);
                 }
             }
+            state.cancelTimers();
         }
         
-        // Remove all task data
-        activeGlitchTasks.remove(playerUUID);
+        // Hand the final state to the data store now instead of on the next save, then drop it from memory.
+        // Until it is flushed, a rejoin reads the pending snapshot instead of the disk.
+        if (state != null) {
+            if (state.clearDirty()) {
+                save(playerUUID, state);
+            }
+            playerStates.remove(playerUUID);
+        }
+    }
+    
+    /**
+     * Hands a snapshot of every state changed since the last save to the data store.
+     * Runs on the main thread ahead of the store's flush, so repeated changes between saves cost one snapshot.
+     */
+    public void saveDirty() {
+        for (UUID playerUUID : dirtyPlayers) {
+            PlayerGlitchState state = playerStates.get(playerUUID);
+            
+            // Players who left were saved on quit
+            if (state != null && state.clearDirty()) {
+                save(playerUUID, state);
+            }
+        }
+        dirtyPlayers.clear();
+    }
+    
+    /**
+     * Gets the number of glitches counted against a player's crafting limit
+     * 
+     * @param player The player
+     * @return The crafted glitch count
+     */
+    public int getCraftedGlitchCount(Player player) {
+        PlayerGlitchState state = playerStates.get(player.getUniqueId());
+        
+        return state != null ? state.getCraftedGlitchCount() : 0;
+    }
+    
+    /**
+     * Sets the number of glitches counted against a player's crafting limit
+     * 
+     * @param player The player
+     * @param count The new crafted glitch count
+     */
+    public void setCraftedGlitchCount(Player player, int count) {
+        UUID playerUUID = player.getUniqueId();
+        PlayerGlitchState state = getOrCreateState(playerUUID);
         
-        // We don't remove equipped or owned glitches here as they should persist
-        // between sessions. This would be handled by a data storage system.
+        state.setCraftedGlitchCount(count);
+        markDirty(playerUUID, state);
+    }
+    
+    /**
+     * Gets a player's glitch state, creating an empty one if none exists yet
+     * 
+     * @param playerUUID The UUID of the player
+     * @return The player's glitch state
+     */
+    private PlayerGlitchState getOrCreateState(UUID playerUUID) {
+        return playerStates.computeIfAbsent(playerUUID,
+            k -> new PlayerGlitchState(components.getGlitchFactory(), MAX_EQUIPPED_GLITCHES));
+    }
+    
+    /**
+     * Schedules the cooldown ready notice of a glitch, reusing the player's timer for it
+     * 
+     * @param player The player
+     * @param state The player's glitch state
+     * @param glitch The glitch
+     * @param remainingMillis The remaining cooldown in milliseconds
+     */
+    private void scheduleCooldownReady(Player player, PlayerGlitchState state, Glitch glitch, long remainingMillis) {
+        GlitchTimer timer = state.getCooldownTimer(glitch.getType());
+        if (timer == null) {
+            timer = new GlitchTimer(this, player, glitch, true);
+            state.setCooldownTimer(glitch.getType(), timer);
+        }
+        timingWheel.schedule(timer, toTicks(remainingMillis));
+    }
+    
+    /**
+     * Converts milliseconds to server ticks, rounding up
+     * 
+     * @param millis The time in milliseconds
+     * @return The time in ticks (1 tick = 50ms)
+     */
+    private static long toTicks(long millis) {
+        return (millis + 49) / 50;
+    }
+    
+    /**
+     * Gets the remaining cooldown of a glitch from a player's state
+     * 
+     * @param state The player's glitch state
+     * @param glitch The glitch
+     * @param now The current time in epoch millis
+     * @return The remaining cooldown in milliseconds, or 0 if it is ready
+     */
+    private static long getRemainingCooldown(PlayerGlitchState state, Glitch glitch, long now) {
+        long elapsed = now - state.getLastActivationTime(glitch.getType());
+        return Math.max(0, glitch.getCooldownMillis() - elapsed);
+    }
+    
+    /**
+     * Gets the remaining duration of a glitch from a player's state
+     * 
+     * @param state The player's glitch state
+     * @param glitch The glitch
+     * @param now The current time in epoch millis
+     * @return The remaining duration in milliseconds, or 0 if it is not active
+     */
+    private static long getRemainingDuration(PlayerGlitchState state, Glitch glitch, long now) {
+        long elapsed = now - state.getLastActivationTime(glitch.getType());
+        return Math.max(0, glitch.getDurationMillis() - elapsed);
+    }
+    
+    /**
+     * Marks a player's glitch state as changed, so the next save snapshots it
+     * 
+     * @param playerUUID The UUID of the player
+     * @param state The player's glitch state
+     */
+    private void markDirty(UUID playerUUID, PlayerGlitchState state) {
+        // Never overwrite stored data with state that was built before the load finished
+        if (!state.isLoaded()) {
+            return;
+        }
+        
+        // Only the first change since the last save queues the player, later ones just find the flag set
+        if (state.markDirty()) {
+            dirtyPlayers.add(playerUUID);
+        }
+    }
+    
+    /**
+     * Queues a snapshot of a player's glitch state for persistence
+     * 
+     * @param playerUUID The UUID of the player
+     * @param state The player's glitch state
+     */
+    private void save(UUID playerUUID, PlayerGlitchState state) {
+        // PlayerRecord copies the cooldown array, so the snapshot is unaffected by later activations
+        dataStore.markDirty(new PlayerRecord(playerUUID, state.getOwnedTypes(), state.getEquippedTypes(),
+            state.getCraftedGlitchCount(), state.getLastActivationTimes()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package org.nu11ified.glitchSMP.manager;
+
+import org.bukkit.entity.Player;
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.scheduler.WheelTask;
+
+/**
+ * Reusable timing wheel task for one player's glitch, either ending its duration or announcing its cooldown is over.
+ * Each player state keeps at most one of each kind per glitch type and reschedules it on every activation.
+ */
+final class GlitchTimer extends WheelTask {
+    private final GlitchManager glitchManager;
+    private final Player player;
+    private final Glitch glitch;
+    private final boolean cooldown;
+    
+    /**
+     * Constructor for GlitchTimer
+     * 
+     * @param glitchManager The glitch manager to call back into
+     * @param player The player the timer belongs to
+     * @param glitch The glitch the timer belongs to
+     * @param cooldown true for a cooldown ready timer, false for a duration timer
+     */
+    GlitchTimer(GlitchManager glitchManager, Player player, Glitch glitch, boolean cooldown) {
+        this.glitchManager = glitchManager;
+        this.player = player;
+        this.glitch = glitch;
+        this.cooldown = cooldown;
+    }
+    
+    /**
+     * Gets the player the timer belongs to
+     * 
+     * @return The player
+     */
+    Player getPlayer() {
+        return player;
+    }
+    
+    /**
+     * Gets the glitch the timer belongs to
+     * 
+     * @return The glitch
+     */
+    Glitch getGlitch() {
+        return glitch;
+    }
+    
+    @Override
+    protected void run() {
+        if (cooldown) {
+            glitchManager.onCooldownReady(player, glitch);
+        } else {
+            glitchManager.deactivateGlitch(player, glitch);
+        }
+    }
+}
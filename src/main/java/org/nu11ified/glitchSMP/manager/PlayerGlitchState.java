@@ -0,0 +1,454 @@
+package org.nu11ified.glitchSMP.manager;
+
+import org.nu11ified.glitchSMP.glitch.Glitch;
+import org.nu11ified.glitchSMP.glitch.GlitchFactory;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact per-player glitch state owned by the {@link GlitchManager}.
+ * Ownership is a bitmask over {@link GlitchType} ordinals and the equip slots hold ordinals,
+ * so ownership, equip and count checks are single bit or array operations.
+ * Glitch definitions are shared, so everything that differs between players lives here.
+ */
+final class PlayerGlitchState {
+    static final int EMPTY_SLOT = -1;
+    
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    // Bit n is set when the player owns the glitch type with ordinal n
+    private long ownedMask;
+    
+    // When each glitch type was last activated in epoch millis, indexed by ordinal.
+    // Kept when a glitch is dropped so picking it back up doesn't reset its cooldown.
+    private final long[] lastActivationTimes = new long[GLITCH_TYPES.length];
+    
+    // Reusable duration and cooldown ready timers, created on first activation and indexed by ordinal
+    private final GlitchTimer[] durationTimers = new GlitchTimer[GLITCH_TYPES.length];
+    private final GlitchTimer[] cooldownTimers = new GlitchTimer[GLITCH_TYPES.length];
+    
+    private final GlitchFactory glitchFactory;
+    
+    // Ordinal of the glitch in each equip slot, or EMPTY_SLOT
+    private final int[] equippedSlots;
+    private int equippedCount;
+    
+    private int craftedGlitchCount;
+    
+    // Set once the player's stored data has been applied; only loaded state is ever written back
+    private boolean loaded;
+    
+    // Set when the state changed since it was last handed to the data store
+    private boolean dirty;
+    
+    // Read-only views handed out by the public query methods, rebuilt only when the state changes
+    private Set<Glitch> ownedView = Collections.emptySet();
+    private List<Glitch> equippedView = Collections.emptyList();
+    
+    /**
+     * Constructor for PlayerGlitchState
+     * 
+     * @param glitchFactory The factory holding the shared glitch definitions
+     * @param maxEquipped The number of equip slots
+     */
+    PlayerGlitchState(GlitchFactory glitchFactory, int maxEquipped) {
+        this.glitchFactory = glitchFactory;
+        this.equippedSlots = new int[maxEquipped];
+        Arrays.fill(equippedSlots, EMPTY_SLOT);
+    }
+    
+    /**
+     * Checks if the player owns a glitch type
+     * 
+     * @param type The glitch type
+     * @return true if owned
+     */
+    boolean owns(GlitchType type) {
+        return (ownedMask & bit(type)) != 0;
+    }
+    
+    /**
+     * Gets the owned glitch of a type
+     * 
+     * @param type The glitch type
+     * @return The owned glitch, or null if not owned
+     */
+    Glitch getOwned(GlitchType type) {
+        return owns(type) ? glitchFactory.getGlitch(type) : null;
+    }
+    
+    /**
+     * Gets the number of owned glitches
+     * 
+     * @return The owned glitch count
+     */
+    int getOwnedCount() {
+        return Long.bitCount(ownedMask);
+    }
+    
+    /**
+     * Gets the ownership bitmask over glitch type ordinals
+     * 
+     * @return The ownership bitmask
+     */
+    long getOwnedMask() {
+        return ownedMask;
+    }
+    
+    /**
+     * Adds an owned glitch type
+     * 
+     * @param type The glitch type to add
+     * @return true if the player did not already own a glitch of this type
+     */
+    boolean addOwned(GlitchType type) {
+        if (owns(type)) {
+            return false;
+        }
+        
+        ownedMask |= bit(type);
+        rebuildViews();
+        return true;
+    }
+    
+    /**
+     * Removes an owned glitch, unequipping it first
+     * 
+     * @param type The type of glitch to remove
+     * @return true if the player owned a glitch of this type
+     */
+    boolean removeOwned(GlitchType type) {
+        if (!owns(type)) {
+            return false;
+        }
+        
+        unequip(type);
+        ownedMask &= ~bit(type);
+        rebuildViews();
+        return true;
+    }
+    
+    /**
+     * Checks if a glitch type is equipped
+     * 
+     * @param type The glitch type
+     * @return true if equipped
+     */
+    boolean isEquipped(GlitchType type) {
+        return getEquippedSlot(type) != EMPTY_SLOT;
+    }
+    
+    /**
+     * Gets the slot a glitch type is equipped in
+     * 
+     * @param type The glitch type
+     * @return The slot index, or EMPTY_SLOT if it is not equipped
+     */
+    int getEquippedSlot(GlitchType type) {
+        int ordinal = type.ordinal();
+        for (int slot = 0; slot < equippedCount; slot++) {
+            if (equippedSlots[slot] == ordinal) {
+                return slot;
+            }
+        }
+        return EMPTY_SLOT;
+    }
+    
+    /**
+     * Gets the glitch in an equip slot
+     * 
+     * @param slot The slot index
+     * @return The equipped glitch, or null if the slot is empty
+     */
+    Glitch getEquipped(int slot) {
+        if (slot < 0 || slot >= equippedCount) {
+            return null;
+        }
+        return glitchFactory.getGlitch(GLITCH_TYPES[equippedSlots[slot]]);
+    }
+    
+    /**
+     * Gets the number of equipped glitches
+     * 
+     * @return The equipped glitch count
+     */
+    int getEquippedCount() {
+        return equippedCount;
+    }
+    
+    /**
+     * Gets the number of equip slots
+     * 
+     * @return The number of equip slots
+     */
+    int getMaxEquipped() {
+        return equippedSlots.length;
+    }
+    
+    /**
+     * Equips an owned glitch in the next free slot
+     * 
+     * @param type The glitch type to equip
+     * @return true if the glitch was equipped
+     */
+    boolean equip(GlitchType type) {
+        if (!owns(type) || isEquipped(type) || equippedCount >= equippedSlots.length) {
+            return false;
+        }
+        
+        equippedSlots[equippedCount++] = type.ordinal();
+        rebuildViews();
+        return true;
+    }
+    
+    /**
+     * Unequips a glitch, shifting later slots down so equipped glitches stay contiguous
+     * 
+     * @param type The glitch type to unequip
+     * @return true if the glitch was equipped
+     */
+    boolean unequip(GlitchType type) {
+        int slot = getEquippedSlot(type);
+        if (slot == EMPTY_SLOT) {
+            return false;
+        }
+        
+        System.arraycopy(equippedSlots, slot + 1, equippedSlots, slot, equippedCount - slot - 1);
+        equippedSlots[--equippedCount] = EMPTY_SLOT;
+        rebuildViews();
+        return true;
+    }
+    
+    /**
+     * Gets when a glitch type was last activated
+     * 
+     * @param type The glitch type
+     * @return The last activation time in epoch millis, or 0 if never activated
+     */
+    long getLastActivationTime(GlitchType type) {
+        return lastActivationTimes[type.ordinal()];
+    }
+    
+    /**
+     * Sets when a glitch type was last activated
+     * 
+     * @param type The glitch type
+     * @param time The activation time in epoch millis
+     */
+    void setLastActivationTime(GlitchType type, long time) {
+        lastActivationTimes[type.ordinal()] = time;
+    }
+    
+    /**
+     * Gets the last activation times of all glitch types
+     * 
+     * @return The last activation times in epoch millis, indexed by ordinal (not a copy)
+     */
+    long[] getLastActivationTimes() {
+        return lastActivationTimes;
+    }
+    
+    /**
+     * Gets the duration timer of a glitch type
+     * 
+     * @param type The glitch type
+     * @return The timer, or null if the glitch has never been activated
+     */
+    GlitchTimer getDurationTimer(GlitchType type) {
+        return durationTimers[type.ordinal()];
+    }
+    
+    /**
+     * Sets the duration timer of a glitch type
+     * 
+     * @param type The glitch type
+     * @param timer The timer
+     */
+    void setDurationTimer(GlitchType type, GlitchTimer timer) {
+        durationTimers[type.ordinal()] = timer;
+    }
+    
+    /**
+     * Gets the cooldown ready timer of a glitch type
+     * 
+     * @param type The glitch type
+     * @return The timer, or null if none has been created yet
+     */
+    GlitchTimer getCooldownTimer(GlitchType type) {
+        return cooldownTimers[type.ordinal()];
+    }
+    
+    /**
+     * Sets the cooldown ready timer of a glitch type
+     * 
+     * @param type The glitch type
+     * @param timer The timer
+     */
+    void setCooldownTimer(GlitchType type, GlitchTimer timer) {
+        cooldownTimers[type.ordinal()] = timer;
+    }
+    
+    /**
+     * Checks if a glitch type is active, i.e. its duration timer is still running
+     * 
+     * @param type The glitch type
+     * @return true if active
+     */
+    boolean isActive(GlitchType type) {
+        GlitchTimer timer = durationTimers[type.ordinal()];
+        return timer != null && timer.isScheduled();
+    }
+    
+    /**
+     * Cancels every pending duration and cooldown ready timer
+     */
+    void cancelTimers() {
+        for (int i = 0; i < GLITCH_TYPES.length; i++) {
+            if (durationTimers[i] != null) {
+                durationTimers[i].cancel();
+            }
+            if (cooldownTimers[i] != null) {
+                cooldownTimers[i].cancel();
+            }
+        }
+    }
+    
+    /**
+     * Gets the number of glitches counted against the crafting limit
+     * 
+     * @return The crafted glitch count
+     */
+    int getCraftedGlitchCount() {
+        return craftedGlitchCount;
+    }
+    
+    /**
+     * Sets the number of glitches counted against the crafting limit
+     * 
+     * @param craftedGlitchCount The crafted glitch count
+     */
+    void setCraftedGlitchCount(int craftedGlitchCount) {
+        this.craftedGlitchCount = craftedGlitchCount;
+    }
+    
+    /**
+     * Checks if the player's stored data has been applied
+     * 
+     * @return true if loaded
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+    
+    /**
+     * Marks whether the player's stored data has been applied
+     * 
+     * @param loaded true if loaded
+     */
+    void setLoaded(boolean loaded) {
+        this.loaded = loaded;
+    }
+    
+    /**
+     * Marks the state as changed since it was last saved
+     * 
+     * @return true if it was clean until now, false if it was already dirty
+     */
+    boolean markDirty() {
+        boolean wasClean = !dirty;
+        dirty = true;
+        return wasClean;
+    }
+    
+    /**
+     * Marks the state as saved
+     * 
+     * @return true if it had changed since the last save, false otherwise
+     */
+    boolean clearDirty() {
+        boolean wasDirty = dirty;
+        dirty = false;
+        return wasDirty;
+    }
+    
+    /**
+     * Gets a read-only view of the owned glitches
+     * 
+     * @return The owned glitches, in ordinal order
+     */
+    Set<Glitch> getOwnedView() {
+        return ownedView;
+    }
+    
+    /**
+     * Gets a read-only view of the equipped glitches
+     * 
+     * @return The equipped glitches, in slot order
+     */
+    List<Glitch> getEquippedView() {
+        return equippedView;
+    }
+    
+    /**
+     * Gets the owned glitch types
+     * 
+     * @return The owned types, in ordinal order
+     */
+    List<GlitchType> getOwnedTypes() {
+        List<GlitchType> types = new ArrayList<>(getOwnedCount());
+        for (GlitchType type : GLITCH_TYPES) {
+            if (owns(type)) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+    
+    /**
+     * Gets the equipped glitch types
+     * 
+     * @return The equipped types, in slot order
+     */
+    List<GlitchType> getEquippedTypes() {
+        List<GlitchType> types = new ArrayList<>(equippedCount);
+        for (int slot = 0; slot < equippedCount; slot++) {
+            types.add(GLITCH_TYPES[equippedSlots[slot]]);
+        }
+        return types;
+    }
+    
+    /**
+     * Rebuilds the read-only views after a change to ownership or equip slots
+     */
+    private void rebuildViews() {
+        Set<Glitch> owned = new LinkedHashSet<>();
+        for (GlitchType type : GLITCH_TYPES) {
+            if (owns(type)) {
+                owned.add(glitchFactory.getGlitch(type));
+            }
+        }
+        ownedView = Collections.unmodifiableSet(owned);
+        
+        List<Glitch> equipped = new ArrayList<>(equippedCount);
+        for (int slot = 0; slot < equippedCount; slot++) {
+            equipped.add(glitchFactory.getGlitch(GLITCH_TYPES[equippedSlots[slot]]));
+        }
+        equippedView = Collections.unmodifiableList(equipped);
+    }
+    
+    /**
+     * Gets the ownership bit for a glitch type
+     * 
+     * @param type The glitch type
+     * @return The bit
+     */
+    private static long bit(GlitchType type) {
+        return 1L << type.ordinal();
+    }
+}
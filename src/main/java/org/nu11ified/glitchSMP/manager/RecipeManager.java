@@ -4,8 +4,6 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.ShapedRecipe;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.ChatColor;
 import org.nu11ified.glitchSMP.GlitchSMP;
 import org.nu11ified.glitchSMP.glitch.GlitchType;
 
@@ -107,7 +105,7 @@ public class RecipeManager {
         
         try {
             // Create the glitch item
-            ItemStack glitchItem = createGlitchItem(glitchType);
+            ItemStack glitchItem = plugin.getComponents().getGlitchItems().createItem(glitchType);
             
             // Create the recipe
             NamespacedKey recipeKey = new NamespacedKey(plugin, "glitch_" + glitchName.toLowerCase());
@@ -181,38 +179,6 @@ public class RecipeManager {
         }
     }
     
-    /**
-     * Creates a glitch item for the given glitch type
-     * 
-     * @param glitchType The glitch type
-     * @return The glitch item
-     */
-    private ItemStack createGlitchItem(GlitchType glitchType) {
-        // Use a custom item (e.g., NETHER_STAR) to represent glitches
-        ItemStack item = new ItemStack(Material.NETHER_STAR);
-        ItemMeta meta = item.getItemMeta();
-        
-        if (meta != null) {
-            meta.setDisplayName(ChatColor.LIGHT_PURPLE + glitchType.getName());
-            
-            // Add lore
-            java.util.List<String> lore = new java.util.ArrayList<>();
-            lore.add(ChatColor.GRAY + glitchType.getDescription());
-            lore.add("");
-            lore.add(ChatColor.YELLOW + "Right-click to equip this glitch");
-            lore.add(ChatColor.YELLOW + "Use /glitch list to see your glitches");
-            
-            meta.setLore(lore);
-            
-            // Make it unbreakable and add custom model data
-            meta.setUnbreakable(true);
-            
-            item.setItemMeta(meta);
-        }
-        
-        return item;
-    }
-    
     /**
      * Unregisters all registered recipes
      */
@@ -0,0 +1,50 @@
+package org.nu11ified.glitchSMP.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.util.function.Function;
+
+/**
+ * A message that names a glitch, built once for every glitch type.
+ */
+public final class GlitchMessage {
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    // Messages indexed by glitch type ordinal
+    private final Component[] messages = new Component[GLITCH_TYPES.length];
+    
+    /**
+     * Constructor for GlitchMessage
+     * 
+     * @param builder Builds the message for a glitch type
+     */
+    public GlitchMessage(Function<GlitchType, Component> builder) {
+        for (GlitchType type : GLITCH_TYPES) {
+            messages[type.ordinal()] = builder.apply(type);
+        }
+    }
+    
+    /**
+     * Creates a message that puts the glitch's display name between two pieces of text
+     * 
+     * @param color The color of the message
+     * @param before The text before the glitch name
+     * @param after The text after the glitch name
+     * @return The glitch message
+     */
+    public static GlitchMessage of(NamedTextColor color, String before, String after) {
+        return new GlitchMessage(type -> Component.text(before + type.getName() + after, color));
+    }
+    
+    /**
+     * Gets the message for a glitch type
+     * 
+     * @param type The glitch type
+     * @return The message component
+     */
+    public Component get(GlitchType type) {
+        return messages[type.ordinal()];
+    }
+}
@@ -0,0 +1,41 @@
+package org.nu11ified.glitchSMP.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+/**
+ * A message that names a glitch and has one number in it, such as the seconds left on its cooldown.
+ */
+public final class GlitchNumberedMessage {
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    // Numbered messages indexed by glitch type ordinal
+    private final NumberedMessage[] messages = new NumberedMessage[GLITCH_TYPES.length];
+    
+    /**
+     * Constructor for GlitchNumberedMessage
+     * 
+     * @param color The color of the message
+     * @param before The text before the glitch name
+     * @param middle The text between the glitch name and the number
+     * @param after The text after the number
+     * @param maxCached The highest number whose message is cached per glitch type
+     */
+    public GlitchNumberedMessage(NamedTextColor color, String before, String middle, String after, int maxCached) {
+        for (GlitchType type : GLITCH_TYPES) {
+            messages[type.ordinal()] = new NumberedMessage(color, before + type.getName() + middle, after, maxCached);
+        }
+    }
+    
+    /**
+     * Gets the message for a glitch type and number
+     * 
+     * @param type The glitch type
+     * @param number The number to show
+     * @return The message component
+     */
+    public Component get(GlitchType type, long number) {
+        return messages[type.ordinal()].get(number);
+    }
+}
@@ -0,0 +1,101 @@
+package org.nu11ified.glitchSMP.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Catalog of every player-facing glitch message, built into components once when the class loads.
+ * Messages that name a glitch are prebuilt per glitch type, and messages with a seconds or count value
+ * cache each value's component after its first use, so sending a message costs no string building
+ * and no legacy color conversion.
+ */
+public final class Messages {
+    // Countdowns up to this many seconds reuse cached messages
+    private static final int CACHED_SECONDS = 600;
+    
+    // Counts up to this reuse cached messages
+    private static final int CACHED_COUNT = 16;
+    
+    // General command feedback
+    public static final Component NO_PERMISSION = Component.text("You don't have permission to use this command.", NamedTextColor.RED);
+    public static final Component PLAYERS_ONLY = Component.text("This command can only be used by players.", NamedTextColor.RED);
+    public static final Component NONE = Component.text("  None", NamedTextColor.GRAY);
+    
+    // Activation
+    public static final Component NONE_EQUIPPED = Component.text("You don't have any glitches equipped!", NamedTextColor.RED);
+    public static final Component EQUIP_HINT = Component.text("Use /glitch equip <glitch> to equip a glitch.", NamedTextColor.YELLOW);
+    public static final Component NO_RIGHT_GLITCH = Component.text("No glitch equipped in right slot!", NamedTextColor.RED);
+    public static final Component NO_LEFT_GLITCH = Component.text("No glitch equipped in left slot!", NamedTextColor.RED);
+    public static final Component USED_RIGHT_SLOT = Component.text("Used right glitch slot", NamedTextColor.GRAY);
+    public static final Component USED_LEFT_SLOT = Component.text("Used left glitch slot", NamedTextColor.GRAY);
+    public static final Component RIGHT_SLOT_SELECTED = Component.text("Right glitch slot selected (use offhand keybind to activate)", NamedTextColor.YELLOW);
+    public static final Component LEFT_SLOT_SELECTED = Component.text("Left glitch slot selected (use offhand keybind to activate)", NamedTextColor.YELLOW);
+    public static final GlitchMessage ACTIVATED = GlitchMessage.of(NamedTextColor.GREEN, "Activated ", "!");
+    public static final GlitchMessage ACTIVATION_FAILED = GlitchMessage.of(NamedTextColor.RED, "Failed to activate ", "");
+    public static final GlitchNumberedMessage ON_COOLDOWN = new GlitchNumberedMessage(NamedTextColor.RED, "", " is on cooldown for ", " more seconds!", CACHED_SECONDS);
+    public static final NumberedMessage DIFFUSED = new NumberedMessage(NamedTextColor.RED, "All glitches are diffused for ", " more seconds!", CACHED_SECONDS);
+    public static final GlitchMessage READY = GlitchMessage.of(NamedTextColor.GREEN, "", " is ready!");
+    public static final GlitchMessage WORN_OFF = GlitchMessage.of(NamedTextColor.RED, "Your ", " has worn off.");
+    public static final GlitchMessage NOT_IMPLEMENTED = GlitchMessage.of(NamedTextColor.RED, "The ", " is not yet implemented.");
+    
+    // Obtaining glitches
+    public static final GlitchMessage RECEIVED = GlitchMessage.of(NamedTextColor.GREEN, "You received ", "!");
+    public static final GlitchMessage EQUIP_GLITCH_HINT = new GlitchMessage(type ->
+        Component.text("Use /glitch equip " + type.getName().replace(" Glitch", "") + " to equip it.", NamedTextColor.YELLOW));
+    public static final GlitchMessage ALREADY_OWNED = GlitchMessage.of(NamedTextColor.YELLOW, "You already own ", "");
+    public static final GlitchMessage DUPLICATE_PICKUP = GlitchMessage.of(NamedTextColor.RED, "You already own ", "! You cannot pick up duplicate glitches.");
+    public static final GlitchNumberedMessage PICKED_UP = new GlitchNumberedMessage(NamedTextColor.GREEN, "You picked up ", "! You now have ", "/2 glitches.", CACHED_COUNT);
+    
+    // Crafting limits and death
+    public static final Component CRAFT_LIMIT_REACHED = Component.text("You can only craft 2 glitches! You must die to lose one before crafting another.", NamedTextColor.RED);
+    public static final Component PICKUP_LIMIT_REACHED = Component.text("You can only have 2 glitches! You must die to lose one before picking up another.", NamedTextColor.RED);
+    public static final Component CRAFT_COUNT_RESET = Component.text("Your glitch crafting count has been reset!", NamedTextColor.GREEN);
+    public static final NumberedMessage CRAFTED = new NumberedMessage(NamedTextColor.GREEN, "Glitch crafted! You have ", "/2 glitches.", CACHED_COUNT);
+    public static final NumberedMessage CAN_CRAFT_MORE = new NumberedMessage(NamedTextColor.YELLOW, "You can now craft ", " more glitch(es).", CACHED_COUNT);
+    public static final GlitchMessage DROPPED_ON_DEATH = GlitchMessage.of(NamedTextColor.RED, "You dropped ", " on death!");
+    
+    // Equipping
+    public static final GlitchMessage EQUIPPED = GlitchMessage.of(NamedTextColor.GREEN, "Equipped ", "");
+    public static final GlitchMessage EQUIP_FAILED = GlitchMessage.of(NamedTextColor.RED, "Failed to equip ", ". You may already have the maximum number of glitches equipped.");
+    public static final GlitchMessage UNEQUIPPED = GlitchMessage.of(NamedTextColor.GREEN, "Unequipped ", "");
+    public static final GlitchMessage UNEQUIP_FAILED = GlitchMessage.of(NamedTextColor.RED, "Failed to unequip ", "");
+    public static final GlitchMessage NOT_OWNED = GlitchMessage.of(NamedTextColor.RED, "You don't own ", "");
+    public static final GlitchMessage NOT_EQUIPPED = GlitchMessage.of(NamedTextColor.RED, "You don't have ", " equipped");
+    
+    // Glitch effects
+    public static final Component IMMUNITY_ACTIVATED = Component.text("You activated the Immunity Glitch! You are now immune to all damage for 30 seconds.", NamedTextColor.GREEN);
+    public static final Component INVISIBILITY_ACTIVATED = Component.text("You activated the Invisibility Glitch! You are now completely invisible for 30 seconds.", NamedTextColor.GREEN);
+    public static final Component TELEPORT_ACTIVATED = Component.text("You activated the Teleport Glitch!", NamedTextColor.GREEN);
+    public static final Component NO_TELEPORT_LOCATION = Component.text("No valid teleport location found within range.", NamedTextColor.RED);
+    public static final Component REDSTONE_ACTIVATED = Component.text("You activated the Redstone Glitch! All redstone in this world is dead for 30 seconds.", NamedTextColor.GREEN);
+    public static final Component FREEZE_ACTIVATED = Component.text("You activated the Freeze Glitch! The nearest player is frozen for 30 seconds.", NamedTextColor.GREEN);
+    public static final Component NO_FREEZE_TARGET = Component.text("No player found within range to freeze.", NamedTextColor.RED);
+    public static final Component FROZEN = Component.text("You have been frozen! You can't move, use items or attack.", NamedTextColor.AQUA);
+    public static final Component DIFFUSER_ACTIVATED = Component.text("You activated the Diffuser Glitch!", NamedTextColor.GREEN);
+    public static final Component GLITCHES_DIFFUSED = Component.text("All glitches have been diffused for 30 seconds!", NamedTextColor.RED);
+    public static final Component FAKE_BLOCK_ACTIVATED = Component.text("You activated the Fake Block Glitch! Only you know it isn't real.", NamedTextColor.GREEN);
+    public static final Component NO_FAKE_BLOCK_ITEM = Component.text("Hold a block in your main hand to place a fake block.", NamedTextColor.RED);
+    public static final Component INVENTORY_ACTIVATED = Component.text("You activated the Inventory Glitch! Their inventory is scrambled.", NamedTextColor.GREEN);
+    public static final Component INVENTORY_SCRAMBLED = Component.text("Your inventory has been scrambled!", NamedTextColor.RED);
+    public static final Component NO_INVENTORY_TARGET = Component.text("No player found within range to scramble.", NamedTextColor.RED);
+    public static final Component DUPE_ACTIVATED = Component.text("You activated the Dupe Glitch! The item in your hand was duplicated.", NamedTextColor.GREEN);
+    public static final Component NOTHING_TO_DUPE = Component.text("Hold an item in your main hand to duplicate it.", NamedTextColor.RED);
+    public static final Component CANNOT_DUPE = Component.text("This item can't be duplicated.", NamedTextColor.RED);
+    public static final Component ITEM_ACTIVATED = Component.text("You activated the Item Glitch! Their weapons are useless for 30 seconds.", NamedTextColor.GREEN);
+    public static final Component WEAPONS_DISABLED = Component.text("Your weapons have been disabled for 30 seconds!", NamedTextColor.RED);
+    public static final Component WEAPONS_ENABLED = Component.text("Your weapons work again.", NamedTextColor.GREEN);
+    public static final Component NO_ITEM_TARGET = Component.text("No player found within range to disable.", NamedTextColor.RED);
+    public static final Component EFFECT_ACTIVATED = Component.text("You activated the Effect Glitch! Your level I effects are level II for 1 minute.", NamedTextColor.GREEN);
+    public static final Component NO_EFFECTS_TO_AMPLIFY = Component.text("You have no level I potion effects to amplify.", NamedTextColor.RED);
+    public static final Component CRASH_ACTIVATED = Component.text("You activated the Crash Glitch! They can't rejoin for 15 seconds.", NamedTextColor.GREEN);
+    public static final Component NO_CRASH_TARGET = Component.text("No player found within range to crash.", NamedTextColor.RED);
+    public static final Component CONNECTION_THROTTLED = Component.text("Connection throttled! Please wait before reconnecting.");
+    public static final Component GLIDE_ACTIVATED = Component.text("You activated the Glide Glitch! Glide away, it lasts until you land.", NamedTextColor.GREEN);
+    public static final Component THAWED = Component.text("You are no longer frozen.", NamedTextColor.GREEN);
+    
+    /**
+     * Private constructor, the catalog only holds constants
+     */
+    private Messages() {
+    }
+}
@@ -0,0 +1,62 @@
+package org.nu11ified.glitchSMP.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * A message with one number in it, such as a seconds or count value.
+ * The text around the number is built once, and the full message for each number in the cached range
+ * is built the first time it is sent and reused after that.
+ */
+public final class NumberedMessage {
+    private final String prefix;
+    private final String suffix;
+    private final NamedTextColor color;
+    
+    // Full messages indexed by number, filled on first use
+    private final Component[] cache;
+    
+    /**
+     * Constructor for NumberedMessage
+     * 
+     * @param color The color of the message
+     * @param prefix The text before the number
+     * @param suffix The text after the number
+     * @param maxCached The highest number whose message is cached
+     */
+    public NumberedMessage(NamedTextColor color, String prefix, String suffix, int maxCached) {
+        this.color = color;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.cache = new Component[maxCached + 1];
+    }
+    
+    /**
+     * Gets the message for a number
+     * 
+     * @param number The number to show
+     * @return The message component
+     */
+    public Component get(long number) {
+        if (number < 0 || number >= cache.length) {
+            return build(number);
+        }
+        
+        Component message = cache[(int) number];
+        if (message == null) {
+            message = build(number);
+            cache[(int) number] = message;
+        }
+        return message;
+    }
+    
+    /**
+     * Builds the message for a number
+     * 
+     * @param number The number to show
+     * @return The message component
+     */
+    private Component build(long number) {
+        return Component.text(prefix + number + suffix, color);
+    }
+}
@@ -0,0 +1,296 @@
+package org.nu11ified.glitchSMP.perf;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockRedstoneEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures how long the plugin's listeners and scheduled tasks take.
+ * Every event handler and repeating task is wrapped so each call records its wall time and,
+ * if enabled, the bytes it allocated into a {@link LatencyHistogram} named after it.
+ * Handlers of events fired many times per tick are registered unmeasured, since timing them would cost
+ * about as much as the handlers themselves.
+ */
+public class PerfMonitor {
+    private static final DateTimeFormatter DUMP_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    
+    // Events fired for every moving player or changing redstone signal, matched exactly so subclasses are still measured
+    private static final Set<Class<? extends Event>> UNMEASURED_EVENTS = Set.of(
+        PlayerMoveEvent.class,
+        BlockRedstoneEvent.class
+    );
+    
+    private final Plugin plugin;
+    private final boolean enabled;
+    
+    // Null if allocation tracking is off or unsupported by the JVM
+    private final com.sun.management.ThreadMXBean allocationBean;
+    
+    // Map of measured code names to their histograms
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    
+    /**
+     * Constructor for PerfMonitor
+     * 
+     * @param plugin The plugin whose listeners and tasks are measured
+     * @param enabled Whether to measure anything at all
+     * @param trackAllocations Whether to also count the bytes each call allocates
+     */
+    public PerfMonitor(Plugin plugin, boolean enabled, boolean trackAllocations) {
+        this.plugin = plugin;
+        this.enabled = enabled;
+        this.allocationBean = enabled && trackAllocations ? getAllocationBean() : null;
+    }
+    
+    /**
+     * Registers every event handler of a listener, measuring each one separately
+     * except those of {@link #UNMEASURED_EVENTS}
+     * 
+     * @param listener The listener to register
+     */
+    public void registerEvents(Listener listener) {
+        if (!enabled) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            return;
+        }
+        
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            EventExecutor executor;
+            if (UNMEASURED_EVENTS.contains(eventClass)) {
+                // The same executor Bukkit itself would register for the handler
+                executor = EventExecutor.create(method, eventClass);
+            } else {
+                LatencyHistogram histogram = getHistogram(listener.getClass().getSimpleName() + "." + method.getName());
+                executor = createExecutor(listener, method, eventClass, histogram);
+            }
+            
+            plugin.getServer().getPluginManager().registerEvent(
+                eventClass, listener, handler.priority(), executor, plugin, handler.ignoreCancelled()
+            );
+        }
+    }
+    
+    /**
+     * Wraps a task so each run is measured
+     * 
+     * @param name The name to record the task under
+     * @param task The task
+     * @return The measured task, or the task itself if the monitor is disabled
+     */
+    public Runnable wrap(String name, Runnable task) {
+        if (!enabled) {
+            return task;
+        }
+        
+        LatencyHistogram histogram = getHistogram(name);
+        return () -> {
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                histogram.record(System.nanoTime() - start, getAllocatedBytes() - allocatedBefore);
+            }
+        };
+    }
+    
+    /**
+     * Gets the histogram of some measured code, creating it if needed
+     * 
+     * @param name The name of the measured code
+     * @return The histogram
+     */
+    public LatencyHistogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+    
+    /**
+     * Takes a snapshot of every histogram
+     * 
+     * @return The snapshots, sorted by name
+     */
+    public List<LatencyHistogram.Snapshot> snapshot() {
+        List<LatencyHistogram.Snapshot> snapshots = new ArrayList<>(histograms.size());
+        for (LatencyHistogram histogram : histograms.values()) {
+            snapshots.add(histogram.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(LatencyHistogram.Snapshot::getName));
+        return snapshots;
+    }
+    
+    /**
+     * Clears every histogram
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+    }
+    
+    /**
+     * Writes a snapshot of every histogram to a new file off the main thread
+     * 
+     * @param directory The directory to write the file to
+     * @return A future completed with the written file
+     */
+    public CompletableFuture<File> dump(File directory) {
+        // Snapshot now so the file reflects the moment the dump was asked for
+        List<LatencyHistogram.Snapshot> snapshots = snapshot();
+        LocalDateTime now = LocalDateTime.now();
+        
+        CompletableFuture<File> future = new CompletableFuture<>();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                future.complete(writeDump(directory, now, snapshots));
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+    
+    /**
+     * Checks if the monitor is measuring anything
+     * 
+     * @return true if enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Checks if allocations are being counted
+     * 
+     * @return true if allocations are tracked, false otherwise
+     */
+    public boolean isTrackingAllocations() {
+        return allocationBean != null;
+    }
+    
+    /**
+     * Creates an event executor that calls a handler method and records how long it took
+     * 
+     * @param listener The listener the method belongs to
+     * @param method The handler method
+     * @param eventClass The event class the method handles
+     * @param histogram The histogram to record into
+     * @return The event executor
+     */
+    private EventExecutor createExecutor(Listener listener, Method method, Class<? extends Event> eventClass, LatencyHistogram histogram) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method)
+                .bindTo(listener)
+                .asType(MethodType.methodType(void.class, Event.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access event handler " + method, e);
+        }
+        
+        return (ignored, event) -> {
+            // Subclass events share their parent's handler list, so filter like Bukkit's own executor does
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+            
+            long allocatedBefore = getAllocatedBytes();
+            long start = System.nanoTime();
+            try {
+                handle.invokeExact(event);
+            } catch (Throwable t) {
+                throw new EventException(t);
+            } finally {
+                histogram.record(System.nanoTime() - start, getAllocatedBytes() - allocatedBefore);
+            }
+        };
+    }
+    
+    /**
+     * Gets the bytes allocated so far by the current thread
+     * 
+     * @return The allocated bytes, 0 if allocations are not tracked
+     */
+    private long getAllocatedBytes() {
+        return allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+    
+    /**
+     * Writes snapshots to a new dump file
+     * 
+     * @param directory The directory to write the file to
+     * @param time The time of the snapshot
+     * @param snapshots The snapshots to write
+     * @return The written file
+     * @throws IOException If the file could not be written
+     */
+    private File writeDump(File directory, LocalDateTime time, List<LatencyHistogram.Snapshot> snapshots) throws IOException {
+        Files.createDirectories(directory.toPath());
+        File file = new File(directory, "perf-" + DUMP_NAME_FORMAT.format(time) + ".txt");
+        
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("# GlitchSMP performance snapshot taken " + time);
+            writer.println("# Times in nanoseconds" + (isTrackingAllocations() ? "" : "; allocation tracking off"));
+            writer.printf("%-48s %12s %12s %12s %12s %14s%n", "name", "count", "p50", "p99", "max", "alloc_bytes/op");
+            for (LatencyHistogram.Snapshot snapshot : snapshots) {
+                writer.printf("%-48s %12d %12d %12d %12d %14d%n",
+                    snapshot.getName(),
+                    snapshot.getCount(),
+                    snapshot.getP50(),
+                    snapshot.getP99(),
+                    snapshot.getMax(),
+                    snapshot.getAllocatedBytesPerCall());
+            }
+        }
+        return file;
+    }
+    
+    /**
+     * Gets the JVM's per-thread allocation counter
+     * 
+     * @return The thread bean, or null if per-thread allocation counting is unavailable
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,168 @@
+package org.nu11ified.glitchSMP.redstone;
+
+import java.util.Arrays;
+
+/**
+ * Bounded open-addressed set of packed block positions.
+ * Positions are stored as primitive longs, so adding one neither boxes nor allocates until the table grows.
+ * Not thread-safe.
+ */
+final class BlockPositionSet {
+    private static final int INITIAL_CAPACITY = 256;
+    
+    // Never a packed position: its X coordinate lies far outside the world border
+    private static final long EMPTY = Long.MIN_VALUE;
+    
+    private final int maxSize;
+    private long[] table;
+    private int mask;
+    private int size;
+    
+    /**
+     * Constructor for BlockPositionSet
+     * 
+     * @param maxSize The most positions the set holds; further positions are ignored
+     */
+    BlockPositionSet(int maxSize) {
+        this.maxSize = maxSize;
+        this.table = new long[INITIAL_CAPACITY];
+        this.mask = INITIAL_CAPACITY - 1;
+        Arrays.fill(table, EMPTY);
+    }
+    
+    /**
+     * Packs block coordinates into a position, the same layout the server uses
+     * 
+     * @param x The block X coordinate
+     * @param y The block Y coordinate
+     * @param z The block Z coordinate
+     * @return The packed position
+     */
+    static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+    
+    /**
+     * Gets the X coordinate of a packed position
+     * 
+     * @param position The packed position
+     * @return The block X coordinate
+     */
+    static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+    
+    /**
+     * Gets the Y coordinate of a packed position
+     * 
+     * @param position The packed position
+     * @return The block Y coordinate
+     */
+    static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+    
+    /**
+     * Gets the Z coordinate of a packed position
+     * 
+     * @param position The packed position
+     * @return The block Z coordinate
+     */
+    static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+    
+    /**
+     * Adds a position unless it is already present or the set is full
+     * 
+     * @param position The packed position
+     */
+    void add(long position) {
+        int slot = slot(position);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == position) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        
+        if (size >= maxSize) {
+            return;
+        }
+        
+        // Keep the table at most half full so probe runs stay short
+        if ((size + 1) * 2 > table.length) {
+            resize(table.length * 2);
+            add(position);
+            return;
+        }
+        
+        table[slot] = position;
+        size++;
+    }
+    
+    /**
+     * Gets the number of positions in the set
+     * 
+     * @return The size
+     */
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Copies every position into a new array and empties the set
+     * 
+     * @return The positions, in no particular order
+     */
+    long[] drain() {
+        long[] positions = new long[size];
+        int count = 0;
+        for (long position : table) {
+            if (position != EMPTY) {
+                positions[count++] = position;
+            }
+        }
+        
+        // Start small again rather than keep a table sized for the busiest suppression
+        table = new long[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+        size = 0;
+        Arrays.fill(table, EMPTY);
+        return positions;
+    }
+    
+    /**
+     * Gets the home slot of a position
+     * 
+     * @param position The packed position
+     * @return The slot index
+     */
+    private int slot(long position) {
+        long hash = position * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    /**
+     * Rehashes every position into a larger table
+     * 
+     * @param capacity The new capacity, a power of two
+     */
+    private void resize(int capacity) {
+        long[] oldTable = table;
+        table = new long[capacity];
+        mask = capacity - 1;
+        Arrays.fill(table, EMPTY);
+        
+        for (long position : oldTable) {
+            if (position == EMPTY) {
+                continue;
+            }
+            int slot = slot(position);
+            while (table[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = position;
+        }
+    }
+}
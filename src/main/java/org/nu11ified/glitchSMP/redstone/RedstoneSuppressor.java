@@ -0,0 +1,366 @@
+package org.nu11ified.glitchSMP.redstone;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.block.data.type.RedstoneWire;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockRedstoneEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Switches redstone off world by world for the Redstone Glitch.
+ * Each world has a reference count of running suppressions, so overlapping activations keep the world
+ * suppressed until the last one ends. While suppressed, redstone current changes are held at their old value
+ * and pistons stay retracted, and the affected blocks are remembered. When the last suppression ends the
+ * remembered blocks are updated again, a bounded number per tick, so machines restart without a lag spike.
+ * Main thread only.
+ */
+public class RedstoneSuppressor implements Listener {
+    // Faces checked for an empty neighbour to nudge, most likely empty first
+    private static final BlockFace[] NEIGHBOURS = {
+        BlockFace.UP, BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST, BlockFace.DOWN
+    };
+    
+    private final Plugin plugin;
+    private final int replayPerTick;
+    private final int maxDeferred;
+    
+    // Map of world UUIDs to their suppression state
+    private final Map<UUID, WorldState> worlds = new HashMap<>();
+    
+    // Map of activating player UUIDs to the world they suppressed
+    private final Map<UUID, UUID> ownerWorlds = new HashMap<>();
+    
+    // Number of worlds currently suppressed; lets redstone updates skip the map lookup in the common case
+    private int suppressedWorlds;
+    
+    private BukkitTask replayTask;
+    
+    /**
+     * Constructor for RedstoneSuppressor
+     * 
+     * @param plugin The plugin the replay task runs for
+     * @param replayPerTick The most remembered blocks updated per tick once a suppression ends
+     * @param maxDeferred The most blocks remembered per world during a suppression
+     */
+    public RedstoneSuppressor(Plugin plugin, int replayPerTick, int maxDeferred) {
+        this.plugin = plugin;
+        this.replayPerTick = Math.max(1, replayPerTick);
+        this.maxDeferred = Math.max(0, maxDeferred);
+    }
+    
+    /**
+     * Holds redstone current changes in suppressed worlds
+     * 
+     * @param event The block redstone event
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onBlockRedstone(BlockRedstoneEvent event) {
+        if (suppressedWorlds == 0 || event.getOldCurrent() == event.getNewCurrent()) {
+            return;
+        }
+        
+        WorldState state = getSuppressedState(event.getBlock());
+        if (state != null) {
+            event.setNewCurrent(event.getOldCurrent());
+            defer(state, event.getBlock());
+        }
+    }
+    
+    /**
+     * Keeps pistons retracted in suppressed worlds
+     * 
+     * @param event The block piston extend event
+     */
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockPistonExtend(BlockPistonExtendEvent event) {
+        if (suppressedWorlds == 0) {
+            return;
+        }
+        
+        WorldState state = getSuppressedState(event.getBlock());
+        if (state != null) {
+            event.setCancelled(true);
+            defer(state, event.getBlock());
+        }
+    }
+    
+    /**
+     * Starts suppressing redstone in a world on behalf of a player
+     * 
+     * @param owner The UUID of the player whose glitch suppresses the world
+     * @param world The world to suppress
+     */
+    public void suppress(UUID owner, World world) {
+        // A player only ever holds one suppression; replace any stale one
+        release(owner);
+        
+        UUID worldId = world.getUID();
+        WorldState state = worlds.computeIfAbsent(worldId, id -> new WorldState(world, maxDeferred));
+        if (state.refCount++ == 0) {
+            suppressedWorlds++;
+        }
+        ownerWorlds.put(owner, worldId);
+    }
+    
+    /**
+     * Ends a player's suppression, and starts updating the remembered blocks if it was the world's last one
+     * 
+     * @param owner The UUID of the player whose glitch suppressed a world
+     */
+    public void release(UUID owner) {
+        UUID worldId = ownerWorlds.remove(owner);
+        if (worldId == null) {
+            return;
+        }
+        
+        WorldState state = worlds.get(worldId);
+        if (state == null || --state.refCount > 0) {
+            return;
+        }
+        suppressedWorlds--;
+        
+        // Queue the remembered blocks behind any replay still running for this world
+        if (state.deferred.size() > 0) {
+            state.enqueueReplay(state.deferred.drain());
+        }
+        if (state.hasReplay()) {
+            startReplay();
+        } else {
+            worlds.remove(worldId);
+        }
+    }
+    
+    /**
+     * Checks if redstone is suppressed in a world
+     * 
+     * @param world The world
+     * @return true if suppressed, false otherwise
+     */
+    public boolean isSuppressed(World world) {
+        WorldState state = worlds.get(world.getUID());
+        return state != null && state.refCount > 0;
+    }
+    
+    /**
+     * Ends every suppression and updates all remembered blocks at once, for when the plugin is disabled
+     */
+    public void shutdown() {
+        if (replayTask != null) {
+            replayTask.cancel();
+            replayTask = null;
+        }
+        
+        // A stopping server can afford the spike, and nothing may stay frozen after the plugin is gone
+        for (WorldState state : worlds.values()) {
+            if (state.deferred.size() > 0) {
+                state.enqueueReplay(state.deferred.drain());
+            }
+            replay(state, Integer.MAX_VALUE);
+        }
+        worlds.clear();
+        ownerWorlds.clear();
+        suppressedWorlds = 0;
+    }
+    
+    /**
+     * Gets the state of a block's world if redstone is suppressed there
+     * 
+     * @param block The block
+     * @return The world's state, or null if the world is not suppressed
+     */
+    private WorldState getSuppressedState(Block block) {
+        WorldState state = worlds.get(block.getWorld().getUID());
+        return state != null && state.refCount > 0 ? state : null;
+    }
+    
+    /**
+     * Remembers a block whose update was held back
+     * 
+     * @param state The block's world state
+     * @param block The block
+     */
+    private void defer(WorldState state, Block block) {
+        state.deferred.add(BlockPositionSet.pack(block.getX(), block.getY(), block.getZ()));
+    }
+    
+    /**
+     * Starts the replay task unless it is already running
+     */
+    private void startReplay() {
+        if (replayTask == null) {
+            replayTask = Bukkit.getScheduler().runTaskTimer(plugin, this::replayTick, 1L, 1L);
+        }
+    }
+    
+    /**
+     * Updates up to the per-tick budget of remembered blocks, shared across worlds, and stops once none are left
+     */
+    private void replayTick() {
+        int budget = replayPerTick;
+        
+        Iterator<WorldState> iterator = worlds.values().iterator();
+        while (iterator.hasNext() && budget > 0) {
+            WorldState state = iterator.next();
+            if (!state.hasReplay()) {
+                continue;
+            }
+            
+            budget = replay(state, budget);
+            if (!state.hasReplay() && state.refCount == 0) {
+                iterator.remove();
+            }
+        }
+        
+        boolean pending = false;
+        for (WorldState state : worlds.values()) {
+            if (state.hasReplay()) {
+                pending = true;
+                break;
+            }
+        }
+        if (!pending && replayTask != null) {
+            replayTask.cancel();
+            replayTask = null;
+        }
+    }
+    
+    /**
+     * Updates remembered blocks of a world from its replay queue
+     * 
+     * @param state The world's state
+     * @param budget The most blocks to update
+     * @return The budget left over
+     */
+    private int replay(WorldState state, int budget) {
+        World world = state.world;
+        while (budget > 0 && state.hasReplay()) {
+            long position = state.nextReplay();
+            int x = BlockPositionSet.unpackX(position);
+            int y = BlockPositionSet.unpackY(position);
+            int z = BlockPositionSet.unpackZ(position);
+            
+            // Only touch loaded chunks; unloaded ones recompute their redstone when they load
+            if (world.isChunkLoaded(x >> 4, z >> 4)) {
+                restart(world.getBlockAt(x, y, z));
+            }
+            budget--;
+        }
+        return budget;
+    }
+    
+    /**
+     * Makes a remembered block re-read its inputs.
+     * Writing back the state a block already has is skipped by the server without any update, so instead an empty
+     * neighbour is briefly swapped and restored with physics, which sends the block a real neighbour update. A
+     * wire's power is first moved off its pinned value, so the recomputed power always differs from the stored
+     * one and the change spreads through the rest of the wire.
+     * 
+     * @param block The remembered block
+     */
+    private static void restart(Block block) {
+        Block neighbour = findEmptyNeighbour(block);
+        if (neighbour == null) {
+            // Fully enclosed; the block restarts on its next neighbour change instead
+            return;
+        }
+        
+        BlockData data = block.getBlockData();
+        if (data instanceof RedstoneWire) {
+            RedstoneWire wire = (RedstoneWire) data;
+            wire.setPower(wire.getPower() == 0 ? 1 : wire.getPower() - 1);
+            block.setBlockData(wire, false);
+        }
+        
+        // Structure voids are invisible and have no collision, and the swap never lasts past this call
+        Material type = neighbour.getType();
+        neighbour.setType(Material.STRUCTURE_VOID, false);
+        neighbour.setType(type, true);
+    }
+    
+    /**
+     * Finds an empty neighbour of a block in a loaded chunk
+     * 
+     * @param block The block
+     * @return The neighbour, or null if every loaded neighbour is taken
+     */
+    private static Block findEmptyNeighbour(Block block) {
+        World world = block.getWorld();
+        for (BlockFace face : NEIGHBOURS) {
+            Block neighbour = block.getRelative(face);
+            if (neighbour.isEmpty() && world.isChunkLoaded(neighbour.getX() >> 4, neighbour.getZ() >> 4)) {
+                return neighbour;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * The suppression and replay state of one world
+     */
+    private static final class WorldState {
+        private final World world;
+        private final BlockPositionSet deferred;
+        private int refCount;
+        
+        // Remembered blocks waiting to be updated, and how far the replay has got
+        private long[] replay = new long[0];
+        private int replayCursor;
+        
+        /**
+         * Constructor for WorldState
+         * 
+         * @param world The world
+         * @param maxDeferred The most blocks remembered during a suppression
+         */
+        private WorldState(World world, int maxDeferred) {
+            this.world = world;
+            this.deferred = new BlockPositionSet(maxDeferred);
+        }
+        
+        /**
+         * Adds blocks to the end of the replay queue
+         * 
+         * @param positions The packed block positions
+         */
+        private void enqueueReplay(long[] positions) {
+            int remaining = replay.length - replayCursor;
+            long[] queue = new long[remaining + positions.length];
+            System.arraycopy(replay, replayCursor, queue, 0, remaining);
+            System.arraycopy(positions, 0, queue, remaining, positions.length);
+            replay = queue;
+            replayCursor = 0;
+        }
+        
+        /**
+         * Checks if blocks are waiting to be updated
+         * 
+         * @return true if the replay queue is not empty, false otherwise
+         */
+        private boolean hasReplay() {
+            return replayCursor < replay.length;
+        }
+        
+        /**
+         * Takes the next block from the replay queue
+         * 
+         * @return The packed block position
+         */
+        private long nextReplay() {
+            return replay[replayCursor++];
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.nu11ified.glitchSMP.scheduler;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical timing wheel for glitch timers, advanced once per server tick by a single repeating task.
+ * Each level has 64 slots; level n holds tasks due within 64^(n+1) ticks and cascades them down
+ * a level whenever the level below wraps around. Scheduling and cancelling are O(1).
+ * Not thread safe: all calls must be made on the main thread.
+ */
+public final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    
+    // Longest delay the top level can hold (about 9 days); longer tasks are parked there and re-cascaded
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+    
+    private final Logger logger;
+    
+    // Head of the task list of each slot, level by level
+    private final WheelTask[] slots = new WheelTask[SLOTS * LEVELS];
+    
+    // The last tick that was processed
+    private long currentTick;
+    private int size;
+    
+    /**
+     * Constructor for TimingWheel
+     * 
+     * @param logger The logger to report failing tasks to
+     */
+    public TimingWheel(Logger logger) {
+        this.logger = logger;
+    }
+    
+    /**
+     * Schedules a task, rescheduling it if it is already scheduled
+     * 
+     * @param task The task to schedule
+     * @param delayTicks The number of ticks until the task runs (at least 1)
+     */
+    public void schedule(WheelTask task, long delayTicks) {
+        if (task.wheel != null) {
+            task.wheel.cancel(task);
+        }
+        
+        task.deadline = currentTick + Math.max(1, delayTicks);
+        task.wheel = this;
+        insert(task);
+        size++;
+    }
+    
+    /**
+     * Cancels a scheduled task
+     * 
+     * @param task The task to cancel
+     * @return true if the task was scheduled on this wheel, false otherwise
+     */
+    public boolean cancel(WheelTask task) {
+        if (task.wheel != this) {
+            return false;
+        }
+        
+        unlink(task);
+        task.wheel = null;
+        size--;
+        return true;
+    }
+    
+    /**
+     * Advances the wheel by one tick and runs every task that is now due
+     */
+    public void tick() {
+        long now = ++currentTick;
+        int index = (int) (now & SLOT_MASK);
+        
+        // When a level wraps, pull the next slot of the level above down into the lower levels
+        if (index == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                int levelIndex = (int) ((now >>> (level * SLOT_BITS)) & SLOT_MASK);
+                cascade(level * SLOTS + levelIndex);
+                if (levelIndex != 0) {
+                    break;
+                }
+            }
+        }
+        
+        // Pop tasks one at a time so a running task may safely cancel others in the same slot
+        WheelTask task;
+        while ((task = slots[index]) != null) {
+            unlink(task);
+            task.wheel = null;
+            size--;
+            
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Timer task " + task.getClass().getName() + " failed", e);
+            }
+        }
+    }
+    
+    /**
+     * Gets the last tick the wheel processed
+     * 
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    /**
+     * Gets the number of scheduled tasks
+     * 
+     * @return The number of scheduled tasks
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Places a task in the slot matching its deadline
+     * 
+     * @param task The task to place
+     */
+    private void insert(WheelTask task) {
+        long delta = Math.min(task.deadline - currentTick, MAX_DELAY);
+        long deadline = currentTick + delta;
+        
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        
+        int slot = level * SLOTS + (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK);
+        WheelTask head = slots[slot];
+        task.slot = slot;
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        slots[slot] = task;
+    }
+    
+    /**
+     * Removes a task from its slot list
+     * 
+     * @param task The task to remove
+     */
+    private void unlink(WheelTask task) {
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            slots[task.slot] = task.next;
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+    }
+    
+    /**
+     * Re-inserts every task of a higher level slot relative to the current tick
+     * 
+     * @param slot The slot to cascade
+     */
+    private void cascade(int slot) {
+        WheelTask task = slots[slot];
+        slots[slot] = null;
+        
+        while (task != null) {
+            WheelTask next = task.next;
+            insert(task);
+            task = next;
+        }
+    }
+}
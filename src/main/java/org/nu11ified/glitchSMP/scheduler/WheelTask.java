@@ -0,0 +1,51 @@
+package org.nu11ified.glitchSMP.scheduler;
+
+/**
+ * A task that can be scheduled on a {@link TimingWheel}.
+ * The task is its own list node, so scheduling and cancelling never allocate
+ * and a task object can be rescheduled any number of times.
+ */
+public abstract class WheelTask {
+    // Intrusive links into the wheel slot this task is queued in
+    WheelTask prev;
+    WheelTask next;
+    int slot;
+    long deadline;
+    
+    // The wheel this task is queued on, or null if it is not scheduled
+    TimingWheel wheel;
+    
+    /**
+     * Checks if the task is waiting to run
+     * 
+     * @return true if scheduled, false otherwise
+     */
+    public final boolean isScheduled() {
+        return wheel != null;
+    }
+    
+    /**
+     * Gets the tick the task is due to run on
+     * 
+     * @return The deadline tick, only meaningful while scheduled
+     */
+    public final long getDeadline() {
+        return deadline;
+    }
+    
+    /**
+     * Cancels the task if it is scheduled
+     * 
+     * @return true if the task was scheduled, false otherwise
+     */
+    public final boolean cancel() {
+        TimingWheel current = wheel;
+        return current != null && current.cancel(this);
+    }
+    
+    /**
+     * Runs the task once its deadline is reached.
+     * The task is already unscheduled when this is called, so it may reschedule itself.
+     */
+    protected abstract void run();
+}
@@ -0,0 +1,161 @@
+package org.nu11ified.glitchSMP.spatial;
+
+/**
+ * Open-addressed hash map from packed chunk coordinates to values.
+ * Keys are stored as primitive longs with linear probing, so lookups neither box keys nor allocate;
+ * removal shifts later entries back instead of leaving tombstones. Not thread-safe.
+ * 
+ * @param <V> The value type
+ */
+final class ChunkMap<V> {
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    
+    /**
+     * Constructor for ChunkMap
+     */
+    ChunkMap() {
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+    
+    /**
+     * Packs chunk coordinates into a key
+     * 
+     * @param chunkX The chunk X coordinate
+     * @param chunkZ The chunk Z coordinate
+     * @return The packed key
+     */
+    static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Gets the value stored for a key
+     * 
+     * @param key The packed chunk key
+     * @return The value, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+    
+    /**
+     * Stores a value for a key, replacing any previous value
+     * 
+     * @param key The packed chunk key
+     * @param value The value, not null
+     */
+    void put(long key, V value) {
+        // Keep the table at most half full so probe runs stay short
+        if ((size + 1) * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        
+        int slot = slot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+    
+    /**
+     * Removes the value stored for a key
+     * 
+     * @param key The packed chunk key
+     */
+    void remove(long key) {
+        int slot = slot(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            return;
+        }
+        
+        // Move later entries of the probe run into the hole unless that would put them before their home slot
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (values[next] == null) {
+                break;
+            }
+            
+            int home = slot(keys[next]);
+            boolean homeInRange = hole <= next ? home > hole && home <= next : home > hole || home <= next;
+            if (!homeInRange) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        values[hole] = null;
+        size--;
+    }
+    
+    /**
+     * Gets the number of stored values
+     * 
+     * @return The size
+     */
+    int size() {
+        return size;
+    }
+    
+    /**
+     * Gets the home slot of a key
+     * 
+     * @param key The packed chunk key
+     * @return The slot index
+     */
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    /**
+     * Rehashes every entry into a larger table
+     * 
+     * @param capacity The new capacity, a power of two
+     */
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) {
+                continue;
+            }
+            int slot = slot(oldKeys[i]);
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
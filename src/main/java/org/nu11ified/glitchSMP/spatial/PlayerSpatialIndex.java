@@ -0,0 +1,417 @@
+package org.nu11ified.glitchSMP.spatial;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Index of online player positions, bucketed by world and chunk, for radius-based glitch effects.
+ * Positions are updated from player movement events, so a radius query only visits the chunks the
+ * radius overlaps and checks the players bucketed there, without asking the server for nearby entities.
+ * Queries fill a caller-supplied array and allocate nothing. Main thread only.
+ */
+public class PlayerSpatialIndex implements Listener {
+    // Number of emptied buckets kept for reuse, so walking into an empty chunk rarely allocates
+    private static final int MAX_POOLED_BUCKETS = 64;
+    
+    // Map of world UUIDs to the chunk buckets of that world
+    private final Map<UUID, ChunkMap<Bucket>> worlds = new HashMap<>();
+    
+    // Map of player UUIDs to their tracked position
+    private final Map<UUID, Tracked> tracked = new HashMap<>();
+    
+    private final Bucket[] bucketPool = new Bucket[MAX_POOLED_BUCKETS];
+    private int pooledBuckets;
+    
+    /**
+     * Starts tracking a player who joined
+     * 
+     * @param event The player join event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        track(event.getPlayer(), event.getPlayer().getLocation());
+    }
+    
+    /**
+     * Stops tracking a player who left
+     * 
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        untrack(event.getPlayer());
+    }
+    
+    /**
+     * Updates a player's position when they move
+     * 
+     * @param event The player move event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        move(event.getPlayer(), event.getTo());
+    }
+    
+    /**
+     * Updates a player's position when they teleport, which can also change their world
+     * 
+     * @param event The player teleport event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        track(event.getPlayer(), event.getTo());
+    }
+    
+    /**
+     * Updates a player's position after they change worlds through a portal
+     * 
+     * @param event The player changed world event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        track(event.getPlayer(), event.getPlayer().getLocation());
+    }
+    
+    /**
+     * Updates a player's position when they respawn
+     * 
+     * @param event The player respawn event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        track(event.getPlayer(), event.getRespawnLocation());
+    }
+    
+    /**
+     * Puts a player at a position, whether or not they were tracked before
+     * 
+     * @param player The player
+     * @param location The player's position
+     */
+    public void track(Player player, Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        
+        Tracked entry = tracked.get(player.getUniqueId());
+        if (entry == null) {
+            entry = new Tracked(player);
+            tracked.put(player.getUniqueId(), entry);
+        } else {
+            removeFromBucket(entry);
+        }
+        
+        entry.worldId = world.getUID();
+        place(entry, location.getX(), location.getY(), location.getZ());
+    }
+    
+    /**
+     * Stops tracking a player
+     * 
+     * @param player The player
+     */
+    public void untrack(Player player) {
+        Tracked entry = tracked.remove(player.getUniqueId());
+        if (entry != null) {
+            removeFromBucket(entry);
+        }
+    }
+    
+    /**
+     * Collects the players within a radius of a tracked player, not counting the player themselves
+     * 
+     * @param center The player at the center
+     * @param radius The radius in blocks
+     * @param out The array to fill with the players found
+     * @return The number of players written to the array, at most its length
+     */
+    public int collectNearby(Player center, double radius, Player[] out) {
+        Tracked entry = tracked.get(center.getUniqueId());
+        if (entry == null) {
+            return 0;
+        }
+        return collectNearby(entry.worldId, entry.x, entry.y, entry.z, radius, center, out);
+    }
+    
+    /**
+     * Collects the players within a radius of a position
+     * 
+     * @param location The center position
+     * @param radius The radius in blocks
+     * @param out The array to fill with the players found
+     * @return The number of players written to the array, at most its length
+     */
+    public int collectNearby(Location location, double radius, Player[] out) {
+        World world = location.getWorld();
+        if (world == null) {
+            return 0;
+        }
+        return collectNearby(world.getUID(), location.getX(), location.getY(), location.getZ(), radius, null, out);
+    }
+    
+    /**
+     * Finds the tracked player nearest to another within a radius
+     * 
+     * @param center The player at the center, never returned
+     * @param radius The radius in blocks
+     * @return The nearest player, or null if nobody is within the radius
+     */
+    public Player findNearest(Player center, double radius) {
+        Tracked origin = tracked.get(center.getUniqueId());
+        if (origin == null) {
+            return null;
+        }
+        
+        ChunkMap<Bucket> chunks = worlds.get(origin.worldId);
+        int minChunkX = floor(origin.x - radius) >> 4;
+        int maxChunkX = floor(origin.x + radius) >> 4;
+        int minChunkZ = floor(origin.z - radius) >> 4;
+        int maxChunkZ = floor(origin.z + radius) >> 4;
+        
+        Player nearest = null;
+        double nearestSquared = radius * radius;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Bucket bucket = chunks.get(ChunkMap.key(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+                
+                for (int i = 0; i < bucket.size; i++) {
+                    Tracked entry = bucket.entries[i];
+                    double dx = entry.x - origin.x;
+                    double dy = entry.y - origin.y;
+                    double dz = entry.z - origin.z;
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+                    if (entry != origin && distanceSquared <= nearestSquared) {
+                        nearest = entry.player;
+                        nearestSquared = distanceSquared;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+    
+    /**
+     * Gets the number of tracked players
+     * 
+     * @return The tracked player count
+     */
+    public int size() {
+        return tracked.size();
+    }
+    
+    /**
+     * Updates a tracked player's position, moving them to another bucket only when they cross a chunk border
+     * 
+     * @param player The player
+     * @param to The player's new position
+     */
+    private void move(Player player, Location to) {
+        Tracked entry = tracked.get(player.getUniqueId());
+        World world = to.getWorld();
+        if (entry == null || world == null || !world.getUID().equals(entry.worldId)) {
+            // Not tracked yet or in another world; both are rare, so take the full path
+            track(player, to);
+            return;
+        }
+        
+        double x = to.getX();
+        double z = to.getZ();
+        if (entry.chunkKey == ChunkMap.key(floor(x) >> 4, floor(z) >> 4)) {
+            entry.x = x;
+            entry.y = to.getY();
+            entry.z = z;
+            return;
+        }
+        
+        removeFromBucket(entry);
+        place(entry, x, to.getY(), z);
+    }
+    
+    /**
+     * Collects the players within a radius of a position in a world
+     * 
+     * @param worldId The world's UUID
+     * @param x The center X coordinate
+     * @param y The center Y coordinate
+     * @param z The center Z coordinate
+     * @param radius The radius in blocks
+     * @param exclude A player to leave out, or null
+     * @param out The array to fill with the players found
+     * @return The number of players written to the array, at most its length
+     */
+    private int collectNearby(UUID worldId, double x, double y, double z, double radius, Player exclude, Player[] out) {
+        ChunkMap<Bucket> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return 0;
+        }
+        
+        int minChunkX = floor(x - radius) >> 4;
+        int maxChunkX = floor(x + radius) >> 4;
+        int minChunkZ = floor(z - radius) >> 4;
+        int maxChunkZ = floor(z + radius) >> 4;
+        double radiusSquared = radius * radius;
+        
+        int count = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                Bucket bucket = chunks.get(ChunkMap.key(chunkX, chunkZ));
+                if (bucket == null) {
+                    continue;
+                }
+                
+                for (int i = 0; i < bucket.size; i++) {
+                    Tracked entry = bucket.entries[i];
+                    if (entry.player == exclude) {
+                        continue;
+                    }
+                    
+                    double dx = entry.x - x;
+                    double dy = entry.y - y;
+                    double dz = entry.z - z;
+                    if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                        out[count++] = entry.player;
+                        if (count == out.length) {
+                            return count;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Adds a player to the bucket of the chunk at a position in their world
+     * 
+     * @param entry The player's entry, not currently in a bucket
+     * @param x The X coordinate
+     * @param y The Y coordinate
+     * @param z The Z coordinate
+     */
+    private void place(Tracked entry, double x, double y, double z) {
+        entry.x = x;
+        entry.y = y;
+        entry.z = z;
+        entry.chunkKey = ChunkMap.key(floor(x) >> 4, floor(z) >> 4);
+        
+        ChunkMap<Bucket> chunks = worlds.computeIfAbsent(entry.worldId, id -> new ChunkMap<>());
+        Bucket bucket = chunks.get(entry.chunkKey);
+        if (bucket == null) {
+            bucket = pooledBuckets > 0 ? bucketPool[--pooledBuckets] : new Bucket();
+            chunks.put(entry.chunkKey, bucket);
+        }
+        bucket.add(entry);
+    }
+    
+    /**
+     * Removes a player from their current bucket, dropping the bucket if it becomes empty
+     * 
+     * @param entry The player's entry
+     */
+    private void removeFromBucket(Tracked entry) {
+        Bucket bucket = entry.bucket;
+        if (bucket == null) {
+            return;
+        }
+        
+        bucket.remove(entry);
+        if (bucket.size == 0) {
+            worlds.get(entry.worldId).remove(entry.chunkKey);
+            if (pooledBuckets < bucketPool.length) {
+                bucketPool[pooledBuckets++] = bucket;
+            }
+        }
+    }
+    
+    /**
+     * Rounds a coordinate down to its block coordinate
+     * 
+     * @param value The coordinate
+     * @return The block coordinate
+     */
+    private static int floor(double value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+    
+    /**
+     * A tracked player and their last known position
+     */
+    private static final class Tracked {
+        private final Player player;
+        private UUID worldId;
+        private long chunkKey;
+        private double x;
+        private double y;
+        private double z;
+        
+        // The bucket holding this entry and the entry's index in it
+        private Bucket bucket;
+        private int bucketIndex;
+        
+        /**
+         * Constructor for Tracked
+         * 
+         * @param player The tracked player
+         */
+        private Tracked(Player player) {
+            this.player = player;
+        }
+    }
+    
+    /**
+     * The players in one chunk, in no particular order
+     */
+    private static final class Bucket {
+        private Tracked[] entries = new Tracked[4];
+        private int size;
+        
+        /**
+         * Adds an entry to this bucket
+         * 
+         * @param entry The entry
+         */
+        private void add(Tracked entry) {
+            if (size == entries.length) {
+                Tracked[] grown = new Tracked[size * 2];
+                System.arraycopy(entries, 0, grown, 0, size);
+                entries = grown;
+            }
+            entry.bucket = this;
+            entry.bucketIndex = size;
+            entries[size++] = entry;
+        }
+        
+        /**
+         * Removes an entry from this bucket by moving the last entry into its place
+         * 
+         * @param entry The entry
+         */
+        private void remove(Tracked entry) {
+            int index = entry.bucketIndex;
+            Tracked last = entries[--size];
+            entries[index] = last;
+            last.bucketIndex = index;
+            entries[size] = null;
+            entry.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package org.nu11ified.glitchSMP.storage;
+
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Stores every player's glitch record in one memory-mapped file of fixed-size slots.
+ * The slots form an open-addressed hash table keyed by UUID, so loading a player usually
+ * touches a single slot and saving overwrites that slot in place.
+ * 
+ * <p>File layout: a {@value #HEADER_SIZE} byte header followed by {@code capacity} slots of
+ * {@value #RECORD_SIZE} bytes each. Slots are aligned so none of them straddles a page. The table grows
+ * in place, so the file may end in the scratch region of the last grow, which is ignored.</p>
+ */
+public class MappedStorageBackend implements StorageBackend {
+    private static final int MAGIC = 0x474C5350; // "GLSP"
+    
+    // Header layout, padded to a full slot so every slot stays page aligned
+    private static final int HEADER_SIZE = 256;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_SIZE = 8;
+    private static final int HEADER_CAPACITY = 12;
+    private static final int HEADER_COUNT = 16;
+    private static final int HEADER_STAGED = 20; // Slots staged past the table by an unfinished grow, normally 0
+    
+    // Slot layout
+    private static final int RECORD_SIZE = 256;
+    private static final int SLOT_UUID_MOST = 0;
+    private static final int SLOT_UUID_LEAST = 8;
+    private static final int SLOT_STATE = 16;
+    private static final int SLOT_EQUIPPED = 17; // Two bytes, one ordinal per slot, -1 when empty
+    private static final int SLOT_CRAFTED_COUNT = 20;
+    private static final int SLOT_OWNED_MASK = 24;
+    private static final int SLOT_LAST_ACTIVATION = 32;
+    
+    // Room for this many glitch types before the slot layout has to change
+    private static final int MAX_GLITCH_TYPES = (RECORD_SIZE - SLOT_LAST_ACTIVATION) / Long.BYTES;
+    private static final int MAX_EQUIPPED_SLOTS = 2;
+    
+    private static final byte STATE_USED = 1;
+    
+    private static final int INITIAL_CAPACITY = 4096;
+    
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    
+    private final File file;
+    
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+    
+    /**
+     * Constructor for MappedStorageBackend
+     * 
+     * @param file The data file to map
+     */
+    public MappedStorageBackend(File file) {
+        this.file = file;
+    }
+    
+    @Override
+    public void open() throws IOException {
+        if (GLITCH_TYPES.length > MAX_GLITCH_TYPES) {
+            throw new IOException("Mapped storage slots only fit " + MAX_GLITCH_TYPES + " glitch types");
+        }
+        
+        File directory = file.getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create player data directory " + directory);
+        }
+        
+        if (!file.exists()) {
+            createFile(file, INITIAL_CAPACITY);
+        } else if (file.length() < HEADER_SIZE) {
+            // Never replace existing data, however little of it there is; a person has to look at it first
+            throw new IOException(file.getName() + " is truncated to " + file.length()
+                + " bytes, move it away to start with an empty player data file");
+        }
+        
+        map(file);
+        
+        if (buffer.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException(file.getName() + " is not a GlitchSMP player data file");
+        }
+        int version = buffer.getInt(HEADER_VERSION);
+        if (version > PlayerRecord.SCHEMA_VERSION) {
+            throw new IOException(file.getName() + " uses schema version " + version
+                + " but this build only understands up to " + PlayerRecord.SCHEMA_VERSION);
+        }
+        if (buffer.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IOException(file.getName() + " uses an unsupported record size of " + buffer.getInt(HEADER_RECORD_SIZE));
+        }
+        
+        // Finish a grow that was interrupted after the records were staged
+        int staged = buffer.getInt(HEADER_STAGED);
+        if (staged != 0) {
+            if (staged < 0 || staged > capacity || channel.size() < fileSize(capacity) + (long) staged * RECORD_SIZE) {
+                throw new IOException(file.getName() + " has a corrupt header");
+            }
+            rebuild(staged);
+        }
+    }
+    
+    @Override
+    public PlayerRecord load(UUID playerUUID) {
+        int slot = findSlot(playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits());
+        int offset = offset(slot);
+        if (buffer.get(offset + SLOT_STATE) != STATE_USED) {
+            return null;
+        }
+        
+        long ownedMask = buffer.getLong(offset + SLOT_OWNED_MASK);
+        Set<GlitchType> owned = EnumSet.noneOf(GlitchType.class);
+        for (GlitchType type : GLITCH_TYPES) {
+            if ((ownedMask & (1L << type.ordinal())) != 0) {
+                owned.add(type);
+            }
+        }
+        
+        List<GlitchType> equipped = new ArrayList<>(MAX_EQUIPPED_SLOTS);
+        for (int i = 0; i < MAX_EQUIPPED_SLOTS; i++) {
+            int ordinal = buffer.get(offset + SLOT_EQUIPPED + i);
+            if (ordinal >= 0 && ordinal < GLITCH_TYPES.length && owned.contains(GLITCH_TYPES[ordinal])) {
+                equipped.add(GLITCH_TYPES[ordinal]);
+            }
+        }
+        
+        long[] lastActivationTimes = new long[GLITCH_TYPES.length];
+        for (int i = 0; i < GLITCH_TYPES.length; i++) {
+            lastActivationTimes[i] = buffer.getLong(offset + SLOT_LAST_ACTIVATION + i * Long.BYTES);
+        }
+        
+        return new PlayerRecord(playerUUID, owned, equipped, buffer.getInt(offset + SLOT_CRAFTED_COUNT), lastActivationTimes);
+    }
+    
+    @Override
+    public void save(List<PlayerRecord> records) throws IOException {
+        for (PlayerRecord record : records) {
+            // Keep the table at most half full so probe chains stay short
+            if ((count + 1) * 2 > capacity) {
+                grow();
+            }
+            
+            UUID playerUUID = record.getPlayerUUID();
+            int offset = offset(findSlot(playerUUID.getMostSignificantBits(), playerUUID.getLeastSignificantBits()));
+            if (buffer.get(offset + SLOT_STATE) != STATE_USED) {
+                buffer.putLong(offset + SLOT_UUID_MOST, playerUUID.getMostSignificantBits());
+                buffer.putLong(offset + SLOT_UUID_LEAST, playerUUID.getLeastSignificantBits());
+                buffer.put(offset + SLOT_STATE, STATE_USED);
+                count++;
+                buffer.putInt(HEADER_COUNT, count);
+            }
+            
+            writeRecord(offset, record);
+        }
+        
+        buffer.force();
+    }
+    
+    @Override
+    public void close() {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The mapping has already been forced to disk
+            }
+            channel = null;
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "mapped";
+    }
+    
+    /**
+     * Writes a record's state into an already claimed slot
+     * 
+     * @param offset The byte offset of the slot
+     * @param record The record to write
+     */
+    private void writeRecord(int offset, PlayerRecord record) {
+        long ownedMask = 0;
+        for (GlitchType type : record.getOwnedGlitches()) {
+            ownedMask |= 1L << type.ordinal();
+        }
+        buffer.putLong(offset + SLOT_OWNED_MASK, ownedMask);
+        
+        List<GlitchType> equipped = record.getEquippedGlitches();
+        for (int i = 0; i < MAX_EQUIPPED_SLOTS; i++) {
+            buffer.put(offset + SLOT_EQUIPPED + i, i < equipped.size() ? (byte) equipped.get(i).ordinal() : (byte) -1);
+        }
+        
+        buffer.putInt(offset + SLOT_CRAFTED_COUNT, record.getCraftedGlitchCount());
+        
+        for (GlitchType type : GLITCH_TYPES) {
+            buffer.putLong(offset + SLOT_LAST_ACTIVATION + type.ordinal() * Long.BYTES, record.getLastActivationTime(type));
+        }
+    }
+    
+    /**
+     * Finds the slot holding a UUID, or the empty slot it would be inserted into
+     * 
+     * @param most The most significant bits of the UUID
+     * @param least The least significant bits of the UUID
+     * @return The slot index
+     */
+    private int findSlot(long most, long least) {
+        int mask = capacity - 1;
+        int slot = hash(most, least) & mask;
+        while (true) {
+            int offset = offset(slot);
+            if (buffer.get(offset + SLOT_STATE) != STATE_USED) {
+                return slot;
+            }
+            if (buffer.getLong(offset + SLOT_UUID_MOST) == most && buffer.getLong(offset + SLOT_UUID_LEAST) == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+    
+    /**
+     * Doubles the table size in place, without ever replacing the mapped file.
+     * Every used slot is first staged in a scratch region past the end of the larger table; the header then
+     * switches to the new capacity and records how many slots are staged, and the table is rebuilt from the
+     * scratch region. A crash before the header switch leaves the old table untouched, and a crash after it
+     * is finished by {@link #open()}.
+     * 
+     * @throws IOException If the file could not be extended
+     */
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        long scratch = fileSize(newCapacity);
+        long size = scratch + (long) count * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(file.getName() + " cannot grow past " + capacity + " slots");
+        }
+        
+        // Mapping past the end extends the file; the old mapping stays valid until the new one replaces it
+        MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        int staged = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = offset(slot);
+            if (grown.get(offset + SLOT_STATE) == STATE_USED) {
+                grown.put((int) scratch + staged * RECORD_SIZE, grown, offset, RECORD_SIZE);
+                staged++;
+            }
+        }
+        grown.force();
+        buffer = grown;
+        
+        // From here on the scratch region is the only authoritative copy of the records
+        buffer.putInt(HEADER_CAPACITY, newCapacity);
+        buffer.putInt(HEADER_STAGED, staged);
+        buffer.force();
+        capacity = newCapacity;
+        
+        rebuild(staged);
+    }
+    
+    /**
+     * Rebuilds the table from the slots staged past its end by {@link #grow()}.
+     * Rebuilding only reads the scratch region, so it can safely be repeated after a crash.
+     * 
+     * @param staged The number of staged slots
+     */
+    private void rebuild(int staged) {
+        int scratch = (int) fileSize(capacity);
+        
+        // Clear the whole table, including leftovers of an earlier scratch region in its upper half
+        for (int slot = 0; slot < capacity; slot++) {
+            buffer.put(offset(slot) + SLOT_STATE, (byte) 0);
+        }
+        
+        int mask = capacity - 1;
+        for (int i = 0; i < staged; i++) {
+            int source = scratch + i * RECORD_SIZE;
+            int slot = hash(buffer.getLong(source + SLOT_UUID_MOST), buffer.getLong(source + SLOT_UUID_LEAST)) & mask;
+            while (buffer.get(offset(slot) + SLOT_STATE) == STATE_USED) {
+                slot = (slot + 1) & mask;
+            }
+            buffer.put(offset(slot), buffer, source, RECORD_SIZE);
+        }
+        
+        count = staged;
+        buffer.putInt(HEADER_COUNT, count);
+        buffer.putInt(HEADER_STAGED, 0);
+        buffer.force();
+    }
+    
+    /**
+     * Maps the data file and reads the table dimensions from its header
+     * 
+     * @param source The data file
+     * @throws IOException If the file could not be mapped
+     */
+    private void map(File source) throws IOException {
+        channel = FileChannel.open(source.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        capacity = buffer.getInt(HEADER_CAPACITY);
+        count = buffer.getInt(HEADER_COUNT);
+        
+        if (Integer.bitCount(capacity) != 1 || channel.size() < fileSize(capacity)) {
+            throw new IOException(source.getName() + " has a corrupt header");
+        }
+    }
+    
+    /**
+     * Creates an empty data file with the given number of slots
+     * 
+     * @param target The file to create
+     * @param slots The number of slots, must be a power of two
+     * @throws IOException If the file could not be created
+     */
+    private static void createFile(File target, int slots) throws IOException {
+        try (FileChannel newChannel = FileChannel.open(target.toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer header = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(slots));
+            header.putInt(HEADER_MAGIC, MAGIC);
+            header.putInt(HEADER_VERSION, PlayerRecord.SCHEMA_VERSION);
+            header.putInt(HEADER_RECORD_SIZE, RECORD_SIZE);
+            header.putInt(HEADER_CAPACITY, slots);
+            header.putInt(HEADER_COUNT, 0);
+            header.force();
+        }
+    }
+    
+    /**
+     * Gets the size of a data file with the given number of slots
+     * 
+     * @param slots The number of slots
+     * @return The file size in bytes
+     */
+    private static long fileSize(int slots) {
+        return HEADER_SIZE + (long) slots * RECORD_SIZE;
+    }
+    
+    /**
+     * Gets the byte offset of a slot
+     * 
+     * @param slot The slot index
+     * @return The byte offset of the slot
+     */
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+    
+    /**
+     * Spreads the bits of a UUID into a table index
+     * 
+     * @param most The most significant bits of the UUID
+     * @param least The least significant bits of the UUID
+     * @return The hash
+     */
+    private static int hash(long most, long least) {
+        long h = most ^ least;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
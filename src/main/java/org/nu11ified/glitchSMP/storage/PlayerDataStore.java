@@ -0,0 +1,227 @@
+package org.nu11ified.glitchSMP.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind cache in front of a {@link StorageBackend}.
+ * The main thread only ever hands over immutable {@link PlayerRecord} snapshots; all disk I/O
+ * happens on a single storage thread that coalesces repeated changes to the same player and
+ * flushes them in batches.
+ */
+public class PlayerDataStore {
+    private final StorageBackend backend;
+    private final Logger logger;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    
+    // Latest unwritten snapshot for each player; newer snapshots simply replace older ones
+    private final Map<UUID, PlayerRecord> dirtyRecords = new ConcurrentHashMap<>();
+    
+    // Records loaded during async pre-login, waiting for the player to finish joining
+    private final Map<UUID, PlayerRecord> preloadedRecords = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService storageThread;
+    
+    /**
+     * Constructor for PlayerDataStore
+     * 
+     * @param backend The backend records are persisted to
+     * @param logger The logger to report storage errors to
+     * @param flushIntervalMillis How often dirty records are flushed, in milliseconds
+     * @param batchSize The maximum number of records handed to the backend per write
+     */
+    public PlayerDataStore(StorageBackend backend, Logger logger, long flushIntervalMillis, int batchSize) {
+        this.backend = backend;
+        this.logger = logger;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.storageThread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "GlitchSMP-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Opens the backend and starts the periodic flush
+     * 
+     * @throws IOException If the backend could not be opened
+     */
+    public void start() throws IOException {
+        try {
+            storageThread.submit(() -> {
+                backend.open();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while opening " + backend.getName() + " storage", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to open " + backend.getName() + " storage", e.getCause());
+        }
+        
+        storageThread.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Queues a snapshot to be written on the next flush.
+     * Safe to call from any thread; never touches the disk.
+     * 
+     * @param record The snapshot to write
+     */
+    public void markDirty(PlayerRecord record) {
+        dirtyRecords.put(record.getPlayerUUID(), record);
+    }
+    
+    /**
+     * Loads a player's record on the storage thread.
+     * Unflushed snapshots are returned directly so a quick rejoin never sees stale data.
+     * 
+     * @param playerUUID The UUID of the player
+     * @return A future completing with the player's record (empty if they have no stored data)
+     */
+    public CompletableFuture<PlayerRecord> load(UUID playerUUID) {
+        PlayerRecord pending = dirtyRecords.get(playerUUID);
+        if (pending != null) {
+            return CompletableFuture.completedFuture(pending);
+        }
+        
+        CompletableFuture<PlayerRecord> future = new CompletableFuture<>();
+        try {
+            storageThread.execute(() -> {
+                try {
+                    // Check again, a snapshot may have been queued while this load was waiting
+                    PlayerRecord record = dirtyRecords.get(playerUUID);
+                    if (record == null) {
+                        record = backend.load(playerUUID);
+                    }
+                    future.complete(record != null ? record : PlayerRecord.empty(playerUUID));
+                } catch (IOException | RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+    
+    /**
+     * Loads a player's record ahead of their join.
+     * Meant to be called from the async pre-login thread, which is allowed to block.
+     * 
+     * @param playerUUID The UUID of the player
+     * @param timeoutMillis How long to wait for the storage thread
+     */
+    public void preload(UUID playerUUID, long timeoutMillis) {
+        try {
+            preloadedRecords.put(playerUUID, load(playerUUID).get(timeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Failed to load glitch data for " + playerUUID, e.getCause());
+        } catch (TimeoutException e) {
+            logger.warning("Timed out loading glitch data for " + playerUUID + ", it will be loaded after join");
+        }
+    }
+    
+    /**
+     * Takes the record preloaded for a player, if any
+     * 
+     * @param playerUUID The UUID of the player
+     * @return The preloaded record, or null if none is waiting
+     */
+    public PlayerRecord takePreloaded(UUID playerUUID) {
+        return preloadedRecords.remove(playerUUID);
+    }
+    
+    /**
+     * Writes every dirty record to the backend in batches.
+     * Runs on the storage thread only.
+     */
+    private void flush() {
+        if (dirtyRecords.isEmpty()) {
+            return;
+        }
+        
+        List<PlayerRecord> batch = new ArrayList<>(Math.min(batchSize, dirtyRecords.size()));
+        for (PlayerRecord record : dirtyRecords.values()) {
+            batch.add(record);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        }
+        
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+    }
+    
+    /**
+     * Writes a single batch and clears the records that were not replaced in the meantime
+     * 
+     * @param batch The records to write
+     */
+    private void writeBatch(List<PlayerRecord> batch) {
+        try {
+            backend.save(batch);
+        } catch (IOException | RuntimeException e) {
+            // Leave the records dirty so the next flush retries them
+            logger.log(Level.SEVERE, "Failed to write " + batch.size() + " glitch records to " + backend.getName() + " storage", e);
+            return;
+        }
+        
+        for (PlayerRecord record : batch) {
+            // Only clear the entry if no newer snapshot arrived while we were writing
+            dirtyRecords.remove(record.getPlayerUUID(), record);
+        }
+    }
+    
+    /**
+     * Flushes all pending records and closes the backend, waiting at most the given deadline
+     * 
+     * @param timeoutMillis The maximum time to wait for pending writes, in milliseconds
+     */
+    public void shutdown(long timeoutMillis) {
+        try {
+            storageThread.execute(this::flush);
+            storageThread.execute(() -> {
+                try {
+                    backend.close();
+                } catch (IOException e) {
+                    logger.log(Level.SEVERE, "Failed to close " + backend.getName() + " storage", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Already shut down
+            return;
+        }
+        
+        storageThread.shutdown();
+        try {
+            if (!storageThread.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.severe("Glitch data flush did not finish within " + timeoutMillis + "ms, "
+                    + dirtyRecords.size() + " player records were not saved");
+                storageThread.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            storageThread.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
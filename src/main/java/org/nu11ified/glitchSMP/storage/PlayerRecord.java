@@ -0,0 +1,106 @@
+package org.nu11ified.glitchSMP.storage;
+
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a player's persisted glitch state.
+ * Snapshots are taken on the main thread and handed to the storage thread,
+ * so they never share mutable state with the managers.
+ */
+public final class PlayerRecord {
+    /**
+     * The schema version written by this build of the plugin.
+     * Bump this whenever the persisted layout changes and teach the backends how to migrate.
+     */
+    public static final int SCHEMA_VERSION = 2;
+    
+    private final UUID playerUUID;
+    private final Set<GlitchType> ownedGlitches;
+    private final List<GlitchType> equippedGlitches;
+    private final int craftedGlitchCount;
+    private final long[] lastActivationTimes;
+    
+    /**
+     * Constructor for PlayerRecord
+     * 
+     * @param playerUUID The UUID of the player this record belongs to
+     * @param ownedGlitches The glitch types the player owns
+     * @param equippedGlitches The glitch types the player has equipped, in slot order
+     * @param craftedGlitchCount The number of glitches counted against the player's crafting limit
+     * @param lastActivationTimes The last activation time of each glitch type in epoch millis, indexed by ordinal
+     */
+    public PlayerRecord(UUID playerUUID, Collection<GlitchType> ownedGlitches, List<GlitchType> equippedGlitches,
+                        int craftedGlitchCount, long[] lastActivationTimes) {
+        this.playerUUID = playerUUID;
+        this.ownedGlitches = ownedGlitches.isEmpty()
+            ? Collections.emptySet()
+            : Collections.unmodifiableSet(EnumSet.copyOf(ownedGlitches));
+        this.equippedGlitches = List.copyOf(equippedGlitches);
+        this.craftedGlitchCount = craftedGlitchCount;
+        this.lastActivationTimes = Arrays.copyOf(lastActivationTimes, GlitchType.values().length);
+    }
+    
+    /**
+     * Creates an empty record for a player with no stored data
+     * 
+     * @param playerUUID The UUID of the player
+     * @return An empty record
+     */
+    public static PlayerRecord empty(UUID playerUUID) {
+        return new PlayerRecord(playerUUID, Collections.emptySet(), Collections.emptyList(), 0, new long[0]);
+    }
+    
+    /**
+     * Gets the UUID of the player this record belongs to
+     * 
+     * @return The player UUID
+     */
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+    
+    /**
+     * Gets the glitch types the player owns
+     * 
+     * @return An unmodifiable set of owned glitch types
+     */
+    public Set<GlitchType> getOwnedGlitches() {
+        return ownedGlitches;
+    }
+    
+    /**
+     * Gets the glitch types the player has equipped
+     * 
+     * @return An unmodifiable list of equipped glitch types, in slot order
+     */
+    public List<GlitchType> getEquippedGlitches() {
+        return equippedGlitches;
+    }
+    
+    /**
+     * Gets the number of glitches counted against the player's crafting limit
+     * 
+     * @return The crafted glitch count
+     */
+    public int getCraftedGlitchCount() {
+        return craftedGlitchCount;
+    }
+    
+    /**
+     * Gets when the player last activated a glitch type
+     * 
+     * @param type The glitch type
+     * @return The last activation time in epoch millis, or 0 if never activated
+     */
+    public long getLastActivationTime(GlitchType type) {
+        return lastActivationTimes[type.ordinal()];
+    }
+}
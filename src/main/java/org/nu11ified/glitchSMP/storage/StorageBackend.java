@@ -0,0 +1,51 @@
+package org.nu11ified.glitchSMP.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A persistent store for player glitch records.
+ * All methods are only ever called from the {@link PlayerDataStore} storage thread,
+ * so implementations do not need to be thread-safe and are free to block on disk I/O.
+ */
+public interface StorageBackend {
+    
+    /**
+     * Opens the backend, creating any files or directories it needs
+     * 
+     * @throws IOException If the store could not be opened
+     */
+    void open() throws IOException;
+    
+    /**
+     * Loads the record for a player
+     * 
+     * @param playerUUID The UUID of the player
+     * @return The stored record, or null if the player has no stored data
+     * @throws IOException If the record could not be read
+     */
+    PlayerRecord load(UUID playerUUID) throws IOException;
+    
+    /**
+     * Writes a batch of records, replacing any previously stored records for the same players
+     * 
+     * @param records The records to write
+     * @throws IOException If the batch could not be written
+     */
+    void save(List<PlayerRecord> records) throws IOException;
+    
+    /**
+     * Closes the backend and releases any files it holds
+     * 
+     * @throws IOException If the store could not be closed cleanly
+     */
+    void close() throws IOException;
+    
+    /**
+     * Gets a short name for this backend, used in log messages
+     * 
+     * @return The backend name
+     */
+    String getName();
+}
@@ -0,0 +1,167 @@
+package org.nu11ified.glitchSMP.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores each player's glitch record in its own YAML file under the plugin's playerdata folder.
+ */
+public class YamlStorageBackend implements StorageBackend {
+    private final File directory;
+    private final Logger logger;
+    
+    /**
+     * Constructor for YamlStorageBackend
+     * 
+     * @param directory The directory player files are stored in
+     * @param logger The logger to report skipped entries to
+     */
+    public YamlStorageBackend(File directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+    
+    @Override
+    public void open() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create player data directory " + directory);
+        }
+    }
+    
+    @Override
+    public PlayerRecord load(UUID playerUUID) throws IOException {
+        File file = getFile(playerUUID);
+        if (!file.exists()) {
+            return null;
+        }
+        
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Corrupt player data file " + file.getName(), e);
+        }
+        
+        int version = config.getInt("schema-version", 0);
+        if (version > PlayerRecord.SCHEMA_VERSION) {
+            throw new IOException("Player data file " + file.getName() + " uses schema version " + version
+                + " but this build only understands up to " + PlayerRecord.SCHEMA_VERSION);
+        }
+        
+        Set<GlitchType> owned = EnumSet.noneOf(GlitchType.class);
+        for (String name : config.getStringList("owned")) {
+            GlitchType type = parseType(name, file);
+            if (type != null) {
+                owned.add(type);
+            }
+        }
+        
+        List<GlitchType> equipped = new ArrayList<>();
+        for (String name : config.getStringList("equipped")) {
+            GlitchType type = parseType(name, file);
+            if (type != null && owned.contains(type)) {
+                equipped.add(type);
+            }
+        }
+        
+        // Crafting counts and cooldowns were added in schema version 2; older files simply start fresh
+        long[] lastActivationTimes = new long[GlitchType.values().length];
+        ConfigurationSection cooldowns = config.getConfigurationSection("last-activation");
+        if (cooldowns != null) {
+            for (String name : cooldowns.getKeys(false)) {
+                GlitchType type = parseType(name, file);
+                if (type != null) {
+                    lastActivationTimes[type.ordinal()] = cooldowns.getLong(name);
+                }
+            }
+        }
+        
+        return new PlayerRecord(playerUUID, owned, equipped, config.getInt("crafted-count", 0), lastActivationTimes);
+    }
+    
+    @Override
+    public void save(List<PlayerRecord> records) throws IOException {
+        for (PlayerRecord record : records) {
+            YamlConfiguration config = new YamlConfiguration();
+            config.set("schema-version", PlayerRecord.SCHEMA_VERSION);
+            config.set("owned", toNames(record.getOwnedGlitches()));
+            config.set("equipped", toNames(record.getEquippedGlitches()));
+            config.set("crafted-count", record.getCraftedGlitchCount());
+            for (GlitchType type : GlitchType.values()) {
+                long lastActivation = record.getLastActivationTime(type);
+                if (lastActivation > 0) {
+                    config.set("last-activation." + type.name(), lastActivation);
+                }
+            }
+            
+            // Write to a temporary file first so a crash mid-write never leaves a truncated record behind
+            File file = getFile(record.getPlayerUUID());
+            File tempFile = new File(directory, file.getName() + ".tmp");
+            config.save(tempFile);
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+    
+    @Override
+    public void close() {
+        // Nothing is held open between writes
+    }
+    
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+    
+    /**
+     * Gets the file a player's record is stored in
+     * 
+     * @param playerUUID The UUID of the player
+     * @return The player's data file
+     */
+    private File getFile(UUID playerUUID) {
+        return new File(directory, playerUUID + ".yml");
+    }
+    
+    /**
+     * Parses a stored glitch type name, skipping types that no longer exist
+     * 
+     * @param name The stored name
+     * @param file The file the name was read from
+     * @return The glitch type, or null if it is unknown
+     */
+    private GlitchType parseType(String name, File file) {
+        try {
+            return GlitchType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            logger.warning("Skipping unknown glitch type " + name + " in " + file.getName());
+            return null;
+        }
+    }
+    
+    /**
+     * Converts glitch types to the names they are stored under
+     * 
+     * @param types The glitch types
+     * @return The stored names
+     */
+    private List<String> toNames(Iterable<GlitchType> types) {
+        List<String> names = new ArrayList<>();
+        for (GlitchType type : types) {
+            names.add(type.name());
+        }
+        return names;
+    }
+}
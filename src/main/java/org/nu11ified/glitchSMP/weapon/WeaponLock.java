@@ -0,0 +1,239 @@
+package org.nu11ified.glitchSMP.weapon;
+
+import org.bukkit.Material;
+import org.bukkit.entity.AbstractArrow;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.combat.CombatEffect;
+import org.nu11ified.glitchSMP.combat.CombatEffectHandler;
+import org.nu11ified.glitchSMP.combat.CombatRouter;
+import org.nu11ified.glitchSMP.scheduler.TimingWheel;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Disables the weapons of players hit by the Item Glitch.
+ * Each disabled player has a deadline tick; checking it is one map read, and it expires by itself once the
+ * timing wheel passes it, so nothing runs per tick and no item is ever modified. The glitch that disabled a
+ * player also releases them when it ends early, e.g. when diffused; a player disabled by several glitches at
+ * once stays disabled until the last one releases them. A disable outlasts the target logging out, so
+ * relogging does not give the weapons back early. Hits with a weapon, arrows, thrown tridents and drawing bows,
+ * crossbows and tridents are cancelled until then. Main thread only.
+ */
+public class WeaponLock implements Listener, CombatEffectHandler {
+    // Items that count as weapons, resolved once by name so no server is needed
+    private static final Set<Material> WEAPONS = createWeapons();
+    
+    private final CombatRouter combatRouter;
+    private final TimingWheel timingWheel;
+    
+    // Map of disabled player UUIDs to their disable
+    private final Map<UUID, Disable> disabled = new HashMap<>();
+    
+    // Map of disabling player UUIDs to the disable they hold
+    private final Map<UUID, Disable> ownerDisables = new HashMap<>();
+    
+    /**
+     * Constructor for WeaponLock
+     * 
+     * @param combatRouter The combat router disabled attackers are flagged in
+     * @param timingWheel The timing wheel whose tick deadlines are measured against
+     */
+    public WeaponLock(CombatRouter combatRouter, TimingWheel timingWheel) {
+        this.combatRouter = combatRouter;
+        this.timingWheel = timingWheel;
+        
+        // Hits reach this lock through the combat router only while someone's weapons are disabled
+        combatRouter.registerHandler(CombatEffect.ITEM, this);
+    }
+    
+    /**
+     * Disables a player's weapons on behalf of another, extending any earlier disable that would end sooner
+     * 
+     * @param owner The UUID of the player whose glitch disables the target
+     * @param target The UUID of the player whose weapons are disabled
+     * @param ticks How many ticks the weapons stay disabled at most
+     */
+    public void disable(UUID owner, UUID target, long ticks) {
+        // A player only ever holds one disable; replace any stale one
+        release(owner);
+        
+        long now = timingWheel.getCurrentTick();
+        
+        // Drop disables nobody has tested since they ran out; activations are rare, so this stays cheap
+        Iterator<Map.Entry<UUID, Disable>> iterator = disabled.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Disable> entry = iterator.next();
+            if (entry.getValue().until <= now) {
+                combatRouter.removeEffect(entry.getKey(), CombatEffect.ITEM);
+                iterator.remove();
+            }
+        }
+        
+        Disable entry = disabled.get(target);
+        if (entry == null) {
+            entry = new Disable(target);
+            disabled.put(target, entry);
+            combatRouter.addEffect(target, CombatEffect.ITEM);
+        }
+        entry.until = Math.max(entry.until, now + ticks);
+        entry.refCount++;
+        ownerDisables.put(owner, entry);
+    }
+    
+    /**
+     * Ends a player's disable, enabling the target's weapons if no other disable holds them
+     * 
+     * @param owner The UUID of the player whose glitch disabled a target
+     * @return The UUID of the enabled target, or null if the target is still disabled, already ran out or there was none
+     */
+    public UUID release(UUID owner) {
+        Disable entry = ownerDisables.remove(owner);
+        if (entry == null || --entry.refCount > 0) {
+            return null;
+        }
+        
+        // The disable may have run out or been replaced by a newer one since; only end this one
+        if (disabled.get(entry.target) != entry) {
+            return null;
+        }
+        disabled.remove(entry.target);
+        combatRouter.removeEffect(entry.target, CombatEffect.ITEM);
+        return entry.target;
+    }
+    
+    /**
+     * Checks if a player's weapons are disabled, forgetting the disable if it has run out
+     * 
+     * @param playerUUID The UUID of the player
+     * @return true if the player's weapons are disabled, false otherwise
+     */
+    public boolean isDisabled(UUID playerUUID) {
+        if (disabled.isEmpty()) {
+            return false;
+        }
+        
+        Disable entry = disabled.get(playerUUID);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.until > timingWheel.getCurrentTick()) {
+            return true;
+        }
+        
+        disabled.remove(playerUUID);
+        combatRouter.removeEffect(playerUUID, CombatEffect.ITEM);
+        return false;
+    }
+    
+    /**
+     * Cancels weapon hits and projectile hits by players whose weapons are disabled
+     * 
+     * @param event The damage event
+     * @param attacker The attacker with the effect active
+     */
+    @Override
+    public void onAttackerDamage(EntityDamageByEntityEvent event, Entity attacker) {
+        if (!isDisabled(attacker.getUniqueId())) {
+            return;
+        }
+        
+        // Arrows and thrown tridents come from a disabled weapon; melee hits only count when a weapon is held
+        if (event.getDamager() instanceof AbstractArrow || isWeapon(getMainHand(attacker))) {
+            event.setCancelled(true);
+        }
+    }
+    
+    /**
+     * Stops players whose weapons are disabled from drawing bows, crossbows and tridents
+     * 
+     * @param event The player interact event
+     */
+    @EventHandler(priority = EventPriority.LOW)
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        if (disabled.isEmpty()) {
+            return;
+        }
+        
+        Player player = event.getPlayer();
+        if (isWeapon(event.getItem()) && isDisabled(player.getUniqueId())) {
+            event.setUseItemInHand(Event.Result.DENY);
+        }
+    }
+    
+    /**
+     * Gets the item an entity holds in its main hand
+     * 
+     * @param entity The entity
+     * @return The held item, or null if the entity can't hold items
+     */
+    private static ItemStack getMainHand(Entity entity) {
+        if (!(entity instanceof LivingEntity)) {
+            return null;
+        }
+        EntityEquipment equipment = ((LivingEntity) entity).getEquipment();
+        return equipment != null ? equipment.getItemInMainHand() : null;
+    }
+    
+    /**
+     * Checks if an item is a weapon
+     * 
+     * @param item The item, may be null
+     * @return true if the item is a weapon, false otherwise
+     */
+    private static boolean isWeapon(ItemStack item) {
+        return item != null && WEAPONS.contains(item.getType());
+    }
+    
+    /**
+     * Builds the set of weapon materials
+     * 
+     * @return The weapon materials
+     */
+    private static Set<Material> createWeapons() {
+        EnumSet<Material> weapons = EnumSet.of(Material.BOW, Material.CROSSBOW, Material.TRIDENT, Material.MACE);
+        for (Material material : Material.values()) {
+            String name = material.name();
+            if (!material.isLegacy() && (name.endsWith("_SWORD") || name.endsWith("_AXE"))) {
+                weapons.add(material);
+            }
+        }
+        return weapons;
+    }
+    
+    /**
+     * One player's weapon disable
+     */
+    private static final class Disable {
+        private final UUID target;
+        
+        // Tick the weapons work again at the latest
+        private long until;
+        
+        // Number of disables holding this player
+        private int refCount;
+        
+        /**
+         * Constructor for Disable
+         * 
+         * @param target The UUID of the disabled player
+         */
+        private Disable(UUID target) {
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerPickupItemEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.event.player.PlayerToggleSneakEvent;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.perf.LatencyHistogram;
+import org.nu11ified.glitchSMP.perf.PerfMonitor;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load simulator.
+ * Joins synthetic players to a {@link SimulatedPlugin} and, every tick, lets each player act with a configurable
+ * chance, picking the action from a weighted event mix. Events go through the same listeners, performance monitor
+ * and scheduled tasks as on a server, then throughput, latency and allocation figures are reported.
+ * Run with ./gradlew simulate, passing options with -Pargs="--players 1000 --rate 0.1".
+ */
+public class LoadSimulator {
+    // Share of right clicks made while holding a glitch item; the rest are ordinary items
+    private static final double GLITCH_ITEM_INTERACT_CHANCE = 0.2;
+    
+    // Players join on a grid this many blocks apart, this many to a row
+    private static final int JOIN_SPACING = 6;
+    private static final int JOIN_ROW_LENGTH = 40;
+    
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    
+    private static final GlitchType[] GLITCH_TYPES = GlitchType.values();
+    private static final SimEventType[] EVENT_TYPES = SimEventType.values();
+    
+    private final SimulationConfig config;
+    private final SimulatedPlugin simulated;
+    private final PerfMonitor perfMonitor;
+    private final SplittableRandom random;
+    private final com.sun.management.ThreadMXBean threadBean;
+    
+    // Per-player state, indexed by player number
+    private final Player[] players;
+    private final boolean[] sneaking;
+    private final InventoryView[] craftViews;
+    private final Location[] positions;
+    
+    // Items shared by every player's events
+    private final Item[] droppedGlitches;
+    private final ItemStack[] glitchItems;
+    private final ItemStack[] plainItems;
+    private final ItemStack emptyHand;
+    
+    // Cumulative event mix weights, in event type order
+    private final int[] cumulativeWeights = new int[EVENT_TYPES.length];
+    
+    // Histograms of whole-event latency by event type, and of whole ticks
+    private final LatencyHistogram[] eventHistograms = new LatencyHistogram[EVENT_TYPES.length];
+    private final LatencyHistogram tickHistogram;
+    
+    /**
+     * Constructor for LoadSimulator
+     * 
+     * @param config The simulation settings
+     */
+    public LoadSimulator(SimulationConfig config) {
+        this.config = config;
+        this.simulated = new SimulatedPlugin(config.getDisplaySlices());
+        this.perfMonitor = simulated.getPerfMonitor();
+        this.random = new SplittableRandom(config.getSeed());
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        
+        int weight = 0;
+        for (SimEventType type : EVENT_TYPES) {
+            weight += config.getWeight(type);
+            cumulativeWeights[type.ordinal()] = weight;
+            eventHistograms[type.ordinal()] = perfMonitor.getHistogram("event." + type.getKey());
+        }
+        tickHistogram = perfMonitor.getHistogram("tick");
+        
+        droppedGlitches = new Item[GLITCH_TYPES.length];
+        glitchItems = new ItemStack[GLITCH_TYPES.length];
+        for (GlitchType type : GLITCH_TYPES) {
+            glitchItems[type.ordinal()] = SimulatedPlugin.createGlitchItem(type);
+            droppedGlitches[type.ordinal()] = StubPlayers.createItem(SimulatedPlugin.createGlitchItem(type));
+        }
+        plainItems = new ItemStack[] {
+            SimulatedPlugin.createPlainItem(Material.DIAMOND_SWORD),
+            SimulatedPlugin.createPlainItem(Material.COBBLESTONE),
+            SimulatedPlugin.createPlainItem(Material.ENDER_PEARL),
+            SimulatedPlugin.createPlainItem(GlitchItems.GLITCH_MATERIAL)
+        };
+        emptyHand = SimulatedPlugin.createPlainItem(Material.AIR);
+        
+        players = new Player[config.getPlayers()];
+        sneaking = new boolean[players.length];
+        craftViews = new InventoryView[players.length];
+        positions = new Location[players.length];
+        for (int i = 0; i < players.length; i++) {
+            List<GlitchType> owned = pickGlitches();
+            positions[i] = new Location(simulated.getWorld(), (i % JOIN_ROW_LENGTH) * JOIN_SPACING, 64, (i / JOIN_ROW_LENGTH) * JOIN_SPACING);
+            players[i] = simulated.joinPlayer("SimPlayer" + i, owned, owned, owned.size(), positions[i]);
+            craftViews[i] = StubPlayers.createCraftingView(players[i], glitchItems[random.nextInt(glitchItems.length)]);
+        }
+    }
+    
+    /**
+     * Entry point
+     * 
+     * @param args The command line options, see {@link SimulationConfig#usage()}
+     */
+    public static void main(String[] args) {
+        SimulationConfig config;
+        try {
+            if (args.length > 0 && (args[0].equals("--help") || args[0].equals("-h"))) {
+                System.out.print(SimulationConfig.usage());
+                return;
+            }
+            config = SimulationConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(SimulationConfig.usage());
+            System.exit(2);
+            return;
+        }
+        
+        LoadSimulator simulator = new LoadSimulator(config);
+        try {
+            simulator.run();
+        } finally {
+            simulator.simulated.shutdown();
+        }
+    }
+    
+    /**
+     * Runs the warmup and measured ticks and prints the report
+     */
+    public void run() {
+        System.out.println("Warming up for " + config.getWarmupTicks() + " ticks...");
+        for (int tick = 0; tick < config.getWarmupTicks(); tick++) {
+            runTick();
+        }
+        
+        // Only the measured ticks count
+        perfMonitor.reset();
+        long gcCountBefore = getGcCount();
+        long gcTimeBefore = getGcTimeMillis();
+        long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        
+        System.out.println("Measuring " + config.getTicks() + " ticks with " + players.length + " players...");
+        long nextTick = start;
+        for (int tick = 0; tick < config.getTicks(); tick++) {
+            runTick();
+            
+            if (config.isRealtime()) {
+                nextTick += TICK_NANOS;
+                LockSupport.parkNanos(nextTick - System.nanoTime());
+            }
+        }
+        
+        long wallNanos = System.nanoTime() - start;
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        printReport(wallNanos, allocated, getGcCount() - gcCountBefore, getGcTimeMillis() - gcTimeBefore);
+    }
+    
+    /**
+     * Runs one tick: every player acts with the configured chance, then the scheduler runs due tasks
+     */
+    private void runTick() {
+        long tickAllocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+        long tickStart = System.nanoTime();
+        
+        for (int i = 0; i < players.length; i++) {
+            if (random.nextDouble() >= config.getEventsPerPlayerTick()) {
+                continue;
+            }
+            
+            SimEventType type = pickEventType();
+            Event event = createEvent(type, i);
+            
+            long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            simulated.getEventBus().call(event);
+            eventHistograms[type.ordinal()].record(System.nanoTime() - start, threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        }
+        
+        simulated.getScheduler().tick();
+        tickHistogram.record(System.nanoTime() - tickStart, threadBean.getCurrentThreadAllocatedBytes() - tickAllocatedBefore);
+    }
+    
+    /**
+     * Creates the event for a player's action
+     * 
+     * @param type The kind of action
+     * @param index The player's number
+     * @return The event
+     */
+    @SuppressWarnings("deprecation")
+    private Event createEvent(SimEventType type, int index) {
+        Player player = players[index];
+        
+        switch (type) {
+            case SWAP:
+                return new PlayerSwapHandItemsEvent(player, emptyHand, emptyHand);
+            case SNEAK:
+                sneaking[index] = !sneaking[index];
+                return new PlayerToggleSneakEvent(player, sneaking[index]);
+            case CRAFT:
+                return new CraftItemEvent(null, craftViews[index], InventoryType.SlotType.RESULT, 0, ClickType.LEFT, InventoryAction.PICKUP_ALL);
+            case PICKUP:
+                return new PlayerPickupItemEvent(player, droppedGlitches[random.nextInt(droppedGlitches.length)], 0);
+            case INTERACT:
+                ItemStack item = random.nextDouble() < GLITCH_ITEM_INTERACT_CHANCE
+                    ? glitchItems[random.nextInt(glitchItems.length)]
+                    : plainItems[random.nextInt(plainItems.length)];
+                return new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, item, null, BlockFace.SELF);
+            case MOVE:
+                Location from = positions[index];
+                Location to = from.clone().add(random.nextDouble() * 2 - 1, 0, random.nextDouble() * 2 - 1);
+                positions[index] = to;
+                return new PlayerMoveEvent(player, from, to);
+            default:
+                throw new IllegalStateException("Unhandled event type " + type);
+        }
+    }
+    
+    /**
+     * Picks an event type from the weighted mix
+     * 
+     * @return The event type
+     */
+    private SimEventType pickEventType() {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return EVENT_TYPES[i];
+            }
+        }
+        return EVENT_TYPES[EVENT_TYPES.length - 1];
+    }
+    
+    /**
+     * Picks up to two distinct glitches from the configured pool for a new player
+     * 
+     * @return The glitches the player starts with, all equipped
+     */
+    private List<GlitchType> pickGlitches() {
+        List<GlitchType> pool = new ArrayList<>(config.getGlitches());
+        int count = random.nextInt(Math.min(2, pool.size()) + 1);
+        
+        List<GlitchType> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            picked.add(pool.remove(random.nextInt(pool.size())));
+        }
+        return picked;
+    }
+    
+    /**
+     * Prints throughput, latency and allocation figures for the measured ticks
+     * 
+     * @param wallNanos The wall time the measured ticks took
+     * @param allocated The bytes allocated on the simulation thread
+     * @param gcCount The number of garbage collections
+     * @param gcMillis The time spent in garbage collection
+     */
+    private void printReport(long wallNanos, long allocated, long gcCount, long gcMillis) {
+        double wallSeconds = wallNanos / 1e9;
+        long events = 0;
+        for (LatencyHistogram histogram : eventHistograms) {
+            events += histogram.snapshot().getCount();
+        }
+        LatencyHistogram.Snapshot ticks = tickHistogram.snapshot();
+        double meanTickNanos = (double) wallNanos / config.getTicks();
+        
+        System.out.println();
+        System.out.println("=== GlitchSMP load simulation ===");
+        System.out.printf("Players %d, %d ticks after %d warmup, %.3f events/player/tick, mix %s%n",
+            players.length, config.getTicks(), config.getWarmupTicks(), config.getEventsPerPlayerTick(), config.describeMix());
+        System.out.printf("Glitches %s, %s%n", config.getGlitches(), config.isRealtime() ? "paced at 20 TPS" : "unpaced");
+        if (!config.isRealtime()) {
+            System.out.println("Note: cooldowns use wall-clock time, so unpaced runs rarely see them expire; use --realtime for that");
+        }
+        System.out.println();
+        
+        System.out.printf("Wall time        %.2f s for %.1f s of game time%n", wallSeconds, config.getTicks() / 20.0);
+        System.out.printf("Throughput       %.0f events/s, %.0f ticks/s%n", events / wallSeconds, config.getTicks() / wallSeconds);
+        if (!config.isRealtime()) {
+            System.out.printf("Main thread load %.2f%% of a 50 ms tick on average%n", meanTickNanos / TICK_NANOS * 100);
+        }
+        System.out.printf("Tick time        p50 %s, p99 %s, max %s%n",
+            formatNanos(ticks.getP50()), formatNanos(ticks.getP99()), formatNanos(ticks.getMax()));
+        System.out.printf("Allocation       %.1f MB/s, %d B/event, %d B/tick%n",
+            allocated / wallSeconds / (1024 * 1024),
+            events > 0 ? allocated / events : 0,
+            allocated / config.getTicks());
+        System.out.printf("GC               %d collections, %d ms%n", gcCount, gcMillis);
+        System.out.println();
+        
+        System.out.println("Per event (whole dispatch):");
+        printHeader();
+        for (SimEventType type : EVENT_TYPES) {
+            printRow(eventHistograms[type.ordinal()].snapshot());
+        }
+        System.out.println();
+        
+        System.out.println("Per handler and task (as reported by /glitch perf):");
+        printHeader();
+        for (LatencyHistogram.Snapshot snapshot : perfMonitor.snapshot()) {
+            if (!snapshot.getName().startsWith("event.") && !snapshot.getName().equals("tick")) {
+                printRow(snapshot);
+            }
+        }
+        
+        Map<String, Long> failures = simulated.getEventBus().getFailures();
+        if (!failures.isEmpty() || simulated.getScheduler().getFailedRuns() > 0) {
+            System.out.println();
+            System.out.println("Failures:");
+            for (Map.Entry<String, Long> entry : failures.entrySet()) {
+                System.out.printf("  %-40s %d%n", entry.getKey(), entry.getValue());
+            }
+            if (simulated.getScheduler().getFailedRuns() > 0) {
+                System.out.printf("  %-40s %d%n", "scheduled tasks", simulated.getScheduler().getFailedRuns());
+            }
+        }
+    }
+    
+    /**
+     * Prints the header of a latency table
+     */
+    private static void printHeader() {
+        System.out.printf("  %-40s %10s %10s %10s %10s %10s%n", "name", "count", "p50", "p99", "max", "B/op");
+    }
+    
+    /**
+     * Prints one row of a latency table
+     * 
+     * @param snapshot The histogram snapshot
+     */
+    private static void printRow(LatencyHistogram.Snapshot snapshot) {
+        if (snapshot.getCount() == 0) {
+            return;
+        }
+        System.out.printf("  %-40s %10d %10s %10s %10s %10d%n",
+            snapshot.getName(),
+            snapshot.getCount(),
+            formatNanos(snapshot.getP50()),
+            formatNanos(snapshot.getP99()),
+            formatNanos(snapshot.getMax()),
+            snapshot.getAllocatedBytesPerCall());
+    }
+    
+    /**
+     * Formats a duration with a readable unit
+     * 
+     * @param nanos The duration in nanoseconds
+     * @return The formatted duration
+     */
+    private static String formatNanos(long nanos) {
+        if (nanos < 10_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 10_000_000) {
+            return String.format("%.1fus", nanos / 1e3);
+        }
+        return String.format("%.1fms", nanos / 1e6);
+    }
+    
+    /**
+     * Gets the total number of garbage collections so far
+     * 
+     * @return The collection count
+     */
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+    
+    /**
+     * Gets the total time spent in garbage collection so far
+     * 
+     * @return The collection time in milliseconds
+     */
+    private static long getGcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+}
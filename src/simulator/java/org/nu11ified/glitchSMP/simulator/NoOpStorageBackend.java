@@ -0,0 +1,35 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.nu11ified.glitchSMP.storage.PlayerRecord;
+import org.nu11ified.glitchSMP.storage.StorageBackend;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Storage backend that stores nothing, so benchmarks and simulations measure the plugin rather than the disk.
+ */
+public class NoOpStorageBackend implements StorageBackend {
+    
+    @Override
+    public void open() {
+    }
+    
+    @Override
+    public PlayerRecord load(UUID playerUUID) {
+        return null;
+    }
+    
+    @Override
+    public void save(List<PlayerRecord> records) {
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    @Override
+    public String getName() {
+        return "no-op";
+    }
+}
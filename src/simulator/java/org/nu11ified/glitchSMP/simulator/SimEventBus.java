@@ -0,0 +1,118 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stand-in for the plugin manager's event dispatch.
+ * Handlers registered for an event class also receive its subclasses, are called in priority order,
+ * and are skipped for cancelled events when they ignore cancelled events, as on a real server.
+ */
+public class SimEventBus {
+    private final List<Registration> registrations = new ArrayList<>();
+    
+    // Map of event classes to the handlers that receive them, in call order
+    private final Map<Class<?>, Registration[]> handlersByClass = new HashMap<>();
+    
+    // Map of handler names to the number of calls that threw
+    private final Map<String, Long> failures = new HashMap<>();
+    
+    /**
+     * Registers an event handler
+     * 
+     * @param eventClass The event class handled
+     * @param listener The listener the handler belongs to
+     * @param priority The handler's priority
+     * @param executor The executor that calls the handler
+     * @param ignoreCancelled Whether the handler skips cancelled events
+     */
+    public void register(Class<? extends Event> eventClass, Listener listener, EventPriority priority, EventExecutor executor, boolean ignoreCancelled) {
+        registrations.add(new Registration(eventClass, listener, priority, executor, ignoreCancelled));
+        registrations.sort(Comparator.comparingInt(registration -> registration.priority.getSlot()));
+        handlersByClass.clear();
+    }
+    
+    /**
+     * Calls an event on every handler that receives it
+     * 
+     * @param event The event
+     */
+    public void call(Event event) {
+        Registration[] handlers = handlersByClass.computeIfAbsent(event.getClass(), this::resolveHandlers);
+        
+        for (Registration registration : handlers) {
+            if (registration.ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                continue;
+            }
+            
+            try {
+                registration.executor.execute(registration.listener, event);
+            } catch (EventException | RuntimeException e) {
+                failures.merge(registration.listener.getClass().getSimpleName() + " <- " + event.getEventName(), 1L, Long::sum);
+            }
+        }
+    }
+    
+    /**
+     * Gets the handlers that threw, with how often they did
+     * 
+     * @return Map of handler and event names to failure counts
+     */
+    public Map<String, Long> getFailures() {
+        return failures;
+    }
+    
+    /**
+     * Finds the handlers that receive an event class
+     * 
+     * @param eventClass The event class
+     * @return The handlers, in call order
+     */
+    private Registration[] resolveHandlers(Class<?> eventClass) {
+        List<Registration> handlers = new ArrayList<>();
+        for (Registration registration : registrations) {
+            if (registration.eventClass.isAssignableFrom(eventClass)) {
+                handlers.add(registration);
+            }
+        }
+        return handlers.toArray(new Registration[0]);
+    }
+    
+    /**
+     * A registered event handler
+     */
+    private static final class Registration {
+        private final Class<? extends Event> eventClass;
+        private final Listener listener;
+        private final EventPriority priority;
+        private final EventExecutor executor;
+        private final boolean ignoreCancelled;
+        
+        /**
+         * Constructor for Registration
+         * 
+         * @param eventClass The event class handled
+         * @param listener The listener the handler belongs to
+         * @param priority The handler's priority
+         * @param executor The executor that calls the handler
+         * @param ignoreCancelled Whether the handler skips cancelled events
+         */
+        private Registration(Class<? extends Event> eventClass, Listener listener, EventPriority priority, EventExecutor executor, boolean ignoreCancelled) {
+            this.eventClass = eventClass;
+            this.listener = listener;
+            this.priority = priority;
+            this.executor = executor;
+            this.ignoreCancelled = ignoreCancelled;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.nu11ified.glitchSMP.simulator;
+
+/**
+ * The kinds of player actions the load simulator generates.
+ */
+public enum SimEventType {
+    SWAP("swap", "Offhand key presses, which activate equipped glitches"),
+    SNEAK("sneak", "Sneak toggles, which select the glitch slot"),
+    CRAFT("craft", "Glitch crafts, checked against the crafting limit"),
+    PICKUP("pickup", "Glitch item pickups, checked for duplicates and the limit"),
+    INTERACT("interact", "Right clicks, mostly with ordinary items"),
+    MOVE("move", "Steps of up to a block, which update the player spatial index");
+    
+    private final String key;
+    private final String description;
+    
+    /**
+     * Constructor for SimEventType
+     * 
+     * @param key The name used for the event in the event mix
+     * @param description A description of the event
+     */
+    SimEventType(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+    
+    /**
+     * Gets the name used for the event in the event mix
+     * 
+     * @return The key
+     */
+    public String getKey() {
+        return key;
+    }
+    
+    /**
+     * Gets a description of the event
+     * 
+     * @return The description
+     */
+    public String getDescription() {
+        return description;
+    }
+    
+    /**
+     * Gets an event type by its event mix name
+     * 
+     * @param key The name, case insensitive
+     * @return The event type
+     * @throws IllegalArgumentException If no event type has that name
+     */
+    public static SimEventType fromKey(String key) {
+        for (SimEventType type : values()) {
+            if (type.key.equalsIgnoreCase(key)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown event type: " + key);
+    }
+}
@@ -0,0 +1,244 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Stand-in for the Bukkit scheduler that runs synchronous tasks when the simulation advances a tick.
+ * Asynchronous tasks run on a daemon thread right away. Only the scheduling calls the plugin makes are supported.
+ */
+public class SimScheduler {
+    private final Logger logger;
+    
+    // Pending synchronous tasks, earliest first, in submission order within a tick
+    private final PriorityQueue<SimTask> queue = new PriorityQueue<>(
+        Comparator.comparingLong((SimTask task) -> task.nextRun).thenComparingInt(task -> task.id)
+    );
+    
+    private final ExecutorService asyncExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "GlitchSMP-Simulator-Async");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final BukkitScheduler bukkitScheduler;
+    private long currentTick;
+    private int nextId = 1;
+    private long failedRuns;
+    
+    /**
+     * Constructor for SimScheduler
+     * 
+     * @param logger The logger task failures are reported to
+     */
+    public SimScheduler(Logger logger) {
+        this.logger = logger;
+        this.bukkitScheduler = createBukkitScheduler();
+    }
+    
+    /**
+     * Advances one tick and runs every synchronous task due on it
+     */
+    public void tick() {
+        currentTick++;
+        
+        // Tasks scheduled while this tick runs are due on a later tick, so this loop always ends
+        List<SimTask> repeating = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().nextRun <= currentTick) {
+            SimTask task = queue.poll();
+            if (task.cancelled) {
+                continue;
+            }
+            
+            try {
+                task.runnable.run();
+            } catch (RuntimeException e) {
+                failedRuns++;
+                logger.log(Level.WARNING, "Task " + task.id + " threw an exception", e);
+            }
+            
+            if (task.period > 0 && !task.cancelled) {
+                task.nextRun += task.period;
+                repeating.add(task);
+            } else {
+                task.cancelled = true;
+            }
+        }
+        queue.addAll(repeating);
+    }
+    
+    /**
+     * Schedules a synchronous task
+     * 
+     * @param plugin The plugin that owns the task
+     * @param runnable The task
+     * @param delay The ticks to wait before the first run, at least one
+     * @param period The ticks between runs, or 0 to run once
+     * @return The scheduled task
+     */
+    public BukkitTask schedule(Plugin plugin, Runnable runnable, long delay, long period) {
+        SimTask task = new SimTask(nextId++, plugin, runnable, currentTick + Math.max(1, delay), Math.max(0, period));
+        queue.add(task);
+        return task;
+    }
+    
+    /**
+     * Gets the number of ticks run so far
+     * 
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    /**
+     * Gets the number of task runs that threw an exception
+     * 
+     * @return The failed run count
+     */
+    public long getFailedRuns() {
+        return failedRuns;
+    }
+    
+    /**
+     * Gets this scheduler as a Bukkit scheduler
+     * 
+     * @return The Bukkit scheduler
+     */
+    public BukkitScheduler asBukkitScheduler() {
+        return bukkitScheduler;
+    }
+    
+    /**
+     * Cancels every pending task and stops the async thread
+     */
+    public void shutdown() {
+        for (SimTask task : queue) {
+            task.cancelled = true;
+        }
+        queue.clear();
+        asyncExecutor.shutdownNow();
+    }
+    
+    /**
+     * Creates the Bukkit scheduler view, which supports the Runnable-based run and cancel calls
+     * 
+     * @return The Bukkit scheduler
+     */
+    private BukkitScheduler createBukkitScheduler() {
+        return (BukkitScheduler) Proxy.newProxyInstance(BukkitScheduler.class.getClassLoader(), new Class<?>[] {BukkitScheduler.class}, (proxy, method, args) -> {
+            String name = method.getName();
+            boolean runnableTask = args != null && args.length >= 2 && args[1] instanceof Runnable;
+            
+            switch (name) {
+                case "runTask":
+                    if (runnableTask) {
+                        return schedule((Plugin) args[0], (Runnable) args[1], 1, 0);
+                    }
+                    break;
+                case "runTaskLater":
+                    if (runnableTask) {
+                        return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], 0);
+                    }
+                    break;
+                case "runTaskTimer":
+                    if (runnableTask) {
+                        return schedule((Plugin) args[0], (Runnable) args[1], (Long) args[2], Math.max(1, (Long) args[3]));
+                    }
+                    break;
+                case "runTaskAsynchronously":
+                    if (runnableTask) {
+                        SimTask task = new SimTask(nextId++, (Plugin) args[0], (Runnable) args[1], currentTick, 0);
+                        task.sync = false;
+                        asyncExecutor.execute(task.runnable);
+                        return task;
+                    }
+                    break;
+                case "cancelTask":
+                    int taskId = (Integer) args[0];
+                    for (SimTask task : queue) {
+                        if (task.id == taskId) {
+                            task.cancelled = true;
+                        }
+                    }
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "SimScheduler";
+                default:
+                    break;
+            }
+            throw new UnsupportedOperationException("BukkitScheduler." + name + " is not simulated");
+        });
+    }
+    
+    /**
+     * A scheduled task
+     */
+    private static final class SimTask implements BukkitTask {
+        private final int id;
+        private final Plugin owner;
+        private final Runnable runnable;
+        private final long period;
+        private long nextRun;
+        private boolean sync = true;
+        private boolean cancelled;
+        
+        /**
+         * Constructor for SimTask
+         * 
+         * @param id The task id
+         * @param owner The plugin that owns the task
+         * @param runnable The task
+         * @param nextRun The tick the task next runs on
+         * @param period The ticks between runs, or 0 to run once
+         */
+        private SimTask(int id, Plugin owner, Runnable runnable, long nextRun, long period) {
+            this.id = id;
+            this.owner = owner;
+            this.runnable = runnable;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+        
+        @Override
+        public int getTaskId() {
+            return id;
+        }
+        
+        @Override
+        public Plugin getOwner() {
+            return owner;
+        }
+        
+        @Override
+        public boolean isSync() {
+            return sync;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        @Override
+        public void cancel() {
+            // Cancelled tasks are dropped when they reach the head of the queue
+            cancelled = true;
+        }
+    }
+}
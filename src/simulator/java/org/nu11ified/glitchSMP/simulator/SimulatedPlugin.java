@@ -0,0 +1,251 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Server;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+import org.nu11ified.glitchSMP.GlitchComponents;
+import org.nu11ified.glitchSMP.display.GlitchDisplay;
+import org.nu11ified.glitchSMP.glitch.GlitchItems;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+import org.nu11ified.glitchSMP.manager.ActivationManager;
+import org.nu11ified.glitchSMP.manager.CraftingLimiter;
+import org.nu11ified.glitchSMP.manager.GlitchManager;
+import org.nu11ified.glitchSMP.perf.PerfMonitor;
+import org.nu11ified.glitchSMP.spatial.PlayerSpatialIndex;
+import org.nu11ified.glitchSMP.storage.PlayerDataStore;
+import org.nu11ified.glitchSMP.storage.PlayerRecord;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Builds the plugin's components on top of a stand-in server, through the same wiring onEnable uses.
+ * Listeners are registered through the performance monitor, so every handler is timed as in production.
+ */
+public final class SimulatedPlugin {
+    public static final NamespacedKey TYPE_KEY = new NamespacedKey("glitchsmp", "glitch_type");
+    
+    private static final Logger LOGGER = Logger.getLogger("GlitchSMP-Simulator");
+    
+    private final SimScheduler scheduler;
+    private final SimEventBus eventBus = new SimEventBus();
+    private final List<Player> onlinePlayers = new ArrayList<>();
+    private final World world = StubPlayers.createWorld("world");
+    private final GlitchComponents components;
+    
+    /**
+     * Constructor for SimulatedPlugin with the default display slice count
+     */
+    public SimulatedPlugin() {
+        this(10);
+    }
+    
+    /**
+     * Constructor for SimulatedPlugin
+     * 
+     * @param displaySlices The number of ticks a full action bar refresh is spread over
+     */
+    public SimulatedPlugin(int displaySlices) {
+        scheduler = new SimScheduler(LOGGER);
+        Server server = StubServer.create(scheduler, eventBus, onlinePlayers, LOGGER);
+        StubServer.install(server);
+        Plugin plugin = StubServer.createPlugin(server, new File("simulator", "GlitchSMP"));
+        
+        MemoryConfiguration config = new MemoryConfiguration();
+        config.set("perf.track-allocations", true);
+        config.set("display.slices", displaySlices);
+        
+        // The stand-in server has no tag registry, so the shulker box tag is spelled out
+        config.set("glitches.dupe.excluded", List.of("DRAGON_EGG", "SHULKER_BOX"));
+        
+        // Nothing is ever flushed: the store is never started, so dirty records just coalesce in memory
+        PlayerDataStore dataStore = new PlayerDataStore(new NoOpStorageBackend(), LOGGER, Long.MAX_VALUE, 64);
+        
+        components = new GlitchComponents(plugin, config, dataStore);
+        components.registerEvents();
+    }
+    
+    /**
+     * Creates a stand-in player and loads their glitch data, without joining them to the server
+     * 
+     * @param name The player's name
+     * @param owned The glitch types the player owns
+     * @param equipped The glitch types the player has equipped, in slot order
+     * @param craftedCount The player's crafted glitch count
+     * @return The loaded player
+     */
+    public Player loadPlayer(String name, List<GlitchType> owned, List<GlitchType> equipped, int craftedCount) {
+        Player player = StubPlayers.createPlayer(name);
+        PlayerRecord record = new PlayerRecord(player.getUniqueId(), owned, equipped, craftedCount,
+            new long[GlitchType.values().length]);
+        components.getGlitchManager().loadPlayerData(player, record);
+        return player;
+    }
+    
+    /**
+     * Creates a stand-in player, loads their glitch data and joins them to the server at the world origin
+     * 
+     * @param name The player's name
+     * @param owned The glitch types the player owns
+     * @param equipped The glitch types the player has equipped, in slot order
+     * @param craftedCount The player's crafted glitch count
+     * @return The joined player
+     */
+    public Player joinPlayer(String name, List<GlitchType> owned, List<GlitchType> equipped, int craftedCount) {
+        return joinPlayer(name, owned, equipped, craftedCount, new Location(world, 0, 64, 0));
+    }
+    
+    /**
+     * Creates a stand-in player, loads their glitch data and joins them to the server
+     * 
+     * @param name The player's name
+     * @param owned The glitch types the player owns
+     * @param equipped The glitch types the player has equipped, in slot order
+     * @param craftedCount The player's crafted glitch count
+     * @param location Where the player joins, in the simulated world
+     * @return The joined player
+     */
+    public Player joinPlayer(String name, List<GlitchType> owned, List<GlitchType> equipped, int craftedCount, Location location) {
+        Player player = loadPlayer(name, owned, equipped, craftedCount);
+        onlinePlayers.add(player);
+        components.getPlayerSpatialIndex().track(player, location);
+        components.getGlitchDisplay().startDisplaying(player);
+        return player;
+    }
+    
+    /**
+     * Creates a stand-in glitch item tagged with its type
+     * 
+     * @param type The glitch type
+     * @return The glitch item
+     */
+    public static ItemStack createGlitchItem(GlitchType type) {
+        return new StubItemStack(GlitchItems.GLITCH_MATERIAL,
+            new StubDataContainer().with(TYPE_KEY, PersistentDataType.INTEGER, type.ordinal()));
+    }
+    
+    /**
+     * Creates a stand-in item without item meta
+     * 
+     * @param material The item material
+     * @return The item
+     */
+    public static ItemStack createPlainItem(Material material) {
+        return new StubItemStack(material, null);
+    }
+    
+    /**
+     * Stops every scheduled task
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+    
+    /**
+     * Gets the plugin's components
+     * 
+     * @return The components
+     */
+    public GlitchComponents getComponents() {
+        return components;
+    }
+    
+    /**
+     * Gets the stand-in scheduler
+     * 
+     * @return The scheduler
+     */
+    public SimScheduler getScheduler() {
+        return scheduler;
+    }
+    
+    /**
+     * Gets the event bus the plugin's listeners are registered with
+     * 
+     * @return The event bus
+     */
+    public SimEventBus getEventBus() {
+        return eventBus;
+    }
+    
+    /**
+     * Gets the performance monitor timing the plugin's listeners and tasks
+     * 
+     * @return The performance monitor
+     */
+    public PerfMonitor getPerfMonitor() {
+        return components.getPerfMonitor();
+    }
+    
+    /**
+     * Gets the simulated world players join
+     * 
+     * @return The world
+     */
+    public World getWorld() {
+        return world;
+    }
+    
+    /**
+     * Gets the index of player positions
+     * 
+     * @return The player spatial index
+     */
+    public PlayerSpatialIndex getPlayerSpatialIndex() {
+        return components.getPlayerSpatialIndex();
+    }
+    
+    /**
+     * Gets the glitch manager
+     * 
+     * @return The glitch manager
+     */
+    public GlitchManager getGlitchManager() {
+        return components.getGlitchManager();
+    }
+    
+    /**
+     * Gets the glitch item helper
+     * 
+     * @return The glitch item helper
+     */
+    public GlitchItems getGlitchItems() {
+        return components.getGlitchItems();
+    }
+    
+    /**
+     * Gets the glitch display
+     * 
+     * @return The glitch display
+     */
+    public GlitchDisplay getGlitchDisplay() {
+        return components.getGlitchDisplay();
+    }
+    
+    /**
+     * Gets the activation manager
+     * 
+     * @return The activation manager
+     */
+    public ActivationManager getActivationManager() {
+        return components.getActivationManager();
+    }
+    
+    /**
+     * Gets the crafting limiter
+     * 
+     * @return The crafting limiter
+     */
+    public CraftingLimiter getCraftingLimiter() {
+        return components.getCraftingLimiter();
+    }
+}
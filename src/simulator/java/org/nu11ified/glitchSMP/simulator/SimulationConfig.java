@@ -0,0 +1,286 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for one load simulation run, parsed from command line arguments.
+ */
+public class SimulationConfig {
+    // Glitches whose effects only touch the player, so they run without a world
+    private static final List<GlitchType> DEFAULT_GLITCHES = List.of(
+        GlitchType.IMMUNITY, GlitchType.DREAM, GlitchType.MORPH, GlitchType.HEROBRINE, GlitchType.VIRUS
+    );
+    
+    private int players = 500;
+    private int ticks = 6000;
+    private int warmupTicks = 1200;
+    private double eventsPerPlayerTick = 0.05;
+    private int displaySlices = 10;
+    private long seed = 42;
+    private boolean realtime;
+    private final Map<SimEventType, Integer> mix = new EnumMap<>(SimEventType.class);
+    private List<GlitchType> glitches = DEFAULT_GLITCHES;
+    
+    /**
+     * Constructor for SimulationConfig with the default event mix
+     */
+    public SimulationConfig() {
+        mix.put(SimEventType.SWAP, 40);
+        mix.put(SimEventType.SNEAK, 30);
+        mix.put(SimEventType.CRAFT, 10);
+        mix.put(SimEventType.PICKUP, 10);
+        mix.put(SimEventType.INTERACT, 10);
+    }
+    
+    /**
+     * Parses settings from command line arguments
+     * 
+     * @param args The arguments
+     * @return The settings
+     * @throws IllegalArgumentException If an argument is unknown or malformed
+     */
+    public static SimulationConfig parse(String[] args) {
+        SimulationConfig config = new SimulationConfig();
+        
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--realtime")) {
+                config.realtime = true;
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            
+            String value = args[++i];
+            switch (arg) {
+                case "--players":
+                    config.players = parsePositive(arg, value);
+                    break;
+                case "--ticks":
+                    config.ticks = parsePositive(arg, value);
+                    break;
+                case "--warmup-ticks":
+                    config.warmupTicks = Math.max(0, Integer.parseInt(value));
+                    break;
+                case "--rate":
+                    config.eventsPerPlayerTick = Double.parseDouble(value);
+                    if (config.eventsPerPlayerTick < 0) {
+                        throw new IllegalArgumentException("--rate must not be negative");
+                    }
+                    break;
+                case "--slices":
+                    config.displaySlices = parsePositive(arg, value);
+                    break;
+                case "--seed":
+                    config.seed = Long.parseLong(value);
+                    break;
+                case "--mix":
+                    config.parseMix(value);
+                    break;
+                case "--glitches":
+                    config.parseGlitches(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        
+        return config;
+    }
+    
+    /**
+     * Gets the command line usage
+     * 
+     * @return The usage text
+     */
+    public static String usage() {
+        StringBuilder usage = new StringBuilder();
+        usage.append("Options:\n");
+        usage.append("  --players <n>        Simulated players (default 500)\n");
+        usage.append("  --ticks <n>          Measured ticks (default 6000, 5 minutes of game time)\n");
+        usage.append("  --warmup-ticks <n>   Ticks run before measuring (default 1200)\n");
+        usage.append("  --rate <r>           Events per player per tick (default 0.05, one per second)\n");
+        usage.append("  --mix <k=w,...>      Relative event weights (default swap=40,sneak=30,craft=10,pickup=10,interact=10, move off)\n");
+        usage.append("  --glitches <T,...>   Glitch types players own and equip (default IMMUNITY,DREAM,MORPH,HEROBRINE,VIRUS)\n");
+        usage.append("  --slices <n>         Action bar refresh slices (default 10)\n");
+        usage.append("  --seed <n>           Random seed (default 42)\n");
+        usage.append("  --realtime           Pace ticks at 20 per second so wall-clock cooldowns expire as on a server\n");
+        usage.append("Event types:\n");
+        for (SimEventType type : SimEventType.values()) {
+            usage.append("  ").append(type.getKey()).append(" - ").append(type.getDescription()).append('\n');
+        }
+        return usage.toString();
+    }
+    
+    /**
+     * Parses an event mix such as swap=40,sneak=30
+     * 
+     * @param value The event mix
+     */
+    private void parseMix(String value) {
+        mix.clear();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + entry);
+            }
+            mix.put(SimEventType.fromKey(parts[0].trim()), weight);
+        }
+        
+        if (getTotalWeight() == 0) {
+            throw new IllegalArgumentException("The event mix needs at least one positive weight");
+        }
+    }
+    
+    /**
+     * Parses a list of glitch types such as IMMUNITY,DREAM
+     * 
+     * @param value The glitch types
+     */
+    private void parseGlitches(String value) {
+        List<GlitchType> parsed = new ArrayList<>();
+        for (String name : value.split(",")) {
+            parsed.add(GlitchType.valueOf(name.trim().toUpperCase()));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("--glitches needs at least one glitch type");
+        }
+        glitches = parsed;
+    }
+    
+    /**
+     * Parses a positive integer option
+     * 
+     * @param option The option name
+     * @param value The value
+     * @return The parsed value
+     */
+    private static int parsePositive(String option, String value) {
+        int parsed = Integer.parseInt(value);
+        if (parsed <= 0) {
+            throw new IllegalArgumentException(option + " must be positive");
+        }
+        return parsed;
+    }
+    
+    /**
+     * Gets the number of simulated players
+     * 
+     * @return The player count
+     */
+    public int getPlayers() {
+        return players;
+    }
+    
+    /**
+     * Gets the number of measured ticks
+     * 
+     * @return The tick count
+     */
+    public int getTicks() {
+        return ticks;
+    }
+    
+    /**
+     * Gets the number of ticks run before measuring
+     * 
+     * @return The warmup tick count
+     */
+    public int getWarmupTicks() {
+        return warmupTicks;
+    }
+    
+    /**
+     * Gets the chance each player acts on a tick
+     * 
+     * @return The events per player per tick
+     */
+    public double getEventsPerPlayerTick() {
+        return eventsPerPlayerTick;
+    }
+    
+    /**
+     * Gets the number of action bar refresh slices
+     * 
+     * @return The slice count
+     */
+    public int getDisplaySlices() {
+        return displaySlices;
+    }
+    
+    /**
+     * Gets the random seed
+     * 
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+    
+    /**
+     * Checks if ticks are paced at 20 per second
+     * 
+     * @return true if running in real time, false if running as fast as possible
+     */
+    public boolean isRealtime() {
+        return realtime;
+    }
+    
+    /**
+     * Gets the weight of an event type in the mix
+     * 
+     * @param type The event type
+     * @return The weight, 0 if the type is not in the mix
+     */
+    public int getWeight(SimEventType type) {
+        return mix.getOrDefault(type, 0);
+    }
+    
+    /**
+     * Gets the sum of every weight in the mix
+     * 
+     * @return The total weight
+     */
+    public int getTotalWeight() {
+        int total = 0;
+        for (int weight : mix.values()) {
+            total += weight;
+        }
+        return total;
+    }
+    
+    /**
+     * Gets the glitch types players own and equip
+     * 
+     * @return The glitch types
+     */
+    public List<GlitchType> getGlitches() {
+        return glitches;
+    }
+    
+    /**
+     * Describes the event mix, e.g. swap=40,sneak=30
+     * 
+     * @return The description
+     */
+    public String describeMix() {
+        StringBuilder description = new StringBuilder();
+        for (Map.Entry<SimEventType, Integer> entry : mix.entrySet()) {
+            if (description.length() > 0) {
+                description.append(',');
+            }
+            description.append(entry.getKey().getKey()).append('=').append(entry.getValue());
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,79 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map-backed stand-in for an item's read-only persistent data view.
+ * Values are stored in their complex form, so reads are a map lookup and a cast.
+ */
+public class StubDataContainer implements PersistentDataContainerView {
+    private final Map<NamespacedKey, Object> values = new HashMap<>();
+    
+    /**
+     * Stores a value
+     * 
+     * @param key The key
+     * @param type The data type
+     * @param value The value
+     * @return This container
+     */
+    public <P, C> StubDataContainer with(NamespacedKey key, PersistentDataType<P, C> type, C value) {
+        values.put(key, value);
+        return this;
+    }
+    
+    @Override
+    public <P, C> boolean has(NamespacedKey key, PersistentDataType<P, C> type) {
+        return type.getComplexType().isInstance(values.get(key));
+    }
+    
+    @Override
+    public boolean has(NamespacedKey key) {
+        return values.containsKey(key);
+    }
+    
+    @Override
+    public <P, C> C get(NamespacedKey key, PersistentDataType<P, C> type) {
+        Object value = values.get(key);
+        return type.getComplexType().isInstance(value) ? type.getComplexType().cast(value) : null;
+    }
+    
+    @Override
+    public <P, C> C getOrDefault(NamespacedKey key, PersistentDataType<P, C> type, C defaultValue) {
+        C value = get(key, type);
+        return value != null ? value : defaultValue;
+    }
+    
+    @Override
+    public Set<NamespacedKey> getKeys() {
+        return Set.copyOf(values.keySet());
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+    
+    @Override
+    public void copyTo(PersistentDataContainer other, boolean replace) {
+        throw new UnsupportedOperationException("Not needed outside a server");
+    }
+    
+    @Override
+    public PersistentDataAdapterContext getAdapterContext() {
+        throw new UnsupportedOperationException("Not needed outside a server");
+    }
+    
+    @Override
+    public byte[] serializeToBytes() {
+        throw new UnsupportedOperationException("Not needed outside a server");
+    }
+}
@@ -0,0 +1,53 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Stand-in item stack that answers type, amount and persistent data reads without a server behind it.
+ */
+public class StubItemStack extends ItemStack {
+    private static final StubDataContainer EMPTY_DATA = new StubDataContainer();
+    
+    private final Material type;
+    private final StubDataContainer data;
+    private int amount;
+    
+    /**
+     * Constructor for StubItemStack
+     * 
+     * @param type The item material
+     * @param data The item's persistent data, or null for an item without meta
+     */
+    public StubItemStack(Material type, StubDataContainer data) {
+        this.type = type;
+        this.data = data;
+        this.amount = 1;
+    }
+    
+    @Override
+    public Material getType() {
+        return type;
+    }
+    
+    @Override
+    public int getAmount() {
+        return amount;
+    }
+    
+    @Override
+    public void setAmount(int amount) {
+        this.amount = amount;
+    }
+    
+    @Override
+    public boolean hasItemMeta() {
+        return data != null;
+    }
+    
+    @Override
+    public PersistentDataContainerView getPersistentDataContainer() {
+        return data != null ? data : EMPTY_DATA;
+    }
+}
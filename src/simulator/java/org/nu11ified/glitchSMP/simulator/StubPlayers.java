@@ -0,0 +1,261 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.potion.PotionEffect;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates lightweight stand-ins for Bukkit entities and views that only answer the calls the plugin makes on hot paths.
+ * Every other method returns a default value. Calls go through a dynamic proxy, which costs a small
+ * argument array per call; that cost is the same in every run, so comparisons between runs stay valid.
+ */
+public final class StubPlayers {
+    
+    /**
+     * Private constructor, this class only has static helpers
+     */
+    private StubPlayers() {
+    }
+    
+    /**
+     * Creates a stand-in player
+     * 
+     * @param name The player's name, also used to derive a stable UUID
+     * @return The player
+     */
+    public static Player createPlayer(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        boolean[] sneaking = new boolean[1];
+        PlayerInventory inventory = createStub(PlayerInventory.class);
+        
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                    return name;
+                case "isOnline":
+                    return true;
+                case "isSneaking":
+                    return sneaking[0];
+                case "setSneaking":
+                    sneaking[0] = (Boolean) args[0];
+                    return null;
+                case "getInventory":
+                    return inventory;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubPlayer{" + name + "}";
+                default:
+                    // sendMessage, sendActionBar and everything else are no-ops
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in player with active potion effects.
+     * Effect changes are accepted and dropped, so every call sees the same effects, as a benchmark needs.
+     * 
+     * @param name The player's name, also used to derive a stable UUID
+     * @param effects The active effects
+     * @return The player
+     */
+    public static Player createAffectedPlayer(String name, List<PotionEffect> effects) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        
+        return (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[] {Player.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                    return name;
+                case "getActivePotionEffects":
+                    // The server hands out a copy, so the stand-in does too
+                    return new ArrayList<>(effects);
+                case "addPotionEffect":
+                case "addPotionEffects":
+                    return true;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubPlayer{" + name + "}";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in world
+     * 
+     * @param name The world's name, also used to derive a stable UUID
+     * @return The world
+     */
+    public static World createWorld(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(("world:" + name).getBytes(StandardCharsets.UTF_8));
+        
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getUID":
+                    return uuid;
+                case "getName":
+                    return name;
+                case "hashCode":
+                    return uuid.hashCode();
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubWorld{" + name + "}";
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in player inventory whose storage contents can be read and written
+     * 
+     * @param storage The hotbar and main inventory items, kept by reference
+     * @return The inventory
+     */
+    public static PlayerInventory createInventory(ItemStack[] storage) {
+        return (PlayerInventory) Proxy.newProxyInstance(PlayerInventory.class.getClassLoader(), new Class<?>[] {PlayerInventory.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getStorageContents":
+                    // The server hands out a copy, so the stand-in does too
+                    return storage.clone();
+                case "setStorageContents":
+                    ItemStack[] contents = (ItemStack[]) args[0];
+                    System.arraycopy(contents, 0, storage, 0, Math.min(contents.length, storage.length));
+                    return null;
+                case "getSize":
+                    return storage.length;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in dropped item entity
+     * 
+     * @param stack The item stack the entity holds
+     * @return The item entity
+     */
+    public static Item createItem(ItemStack stack) {
+        ItemStack[] holder = {stack};
+        
+        return (Item) Proxy.newProxyInstance(Item.class.getClassLoader(), new Class<?>[] {Item.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getItemStack":
+                    return holder[0];
+                case "setItemStack":
+                    holder[0] = (ItemStack) args[0];
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in view of a crafting table whose result slot holds an item
+     * 
+     * @param player The player crafting
+     * @param result The item in the result slot
+     * @return The inventory view
+     */
+    public static InventoryView createCraftingView(Player player, ItemStack result) {
+        return (InventoryView) Proxy.newProxyInstance(InventoryView.class.getClassLoader(), new Class<?>[] {InventoryView.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getPlayer":
+                    return player;
+                case "getItem":
+                    return result;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in whose every method returns a default value
+     * 
+     * @param type The interface to stand in for
+     * @return The stand-in
+     */
+    static <T> T createStub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        }));
+    }
+    
+    /**
+     * Gets the value a stubbed method returns when it has nothing better to return
+     * 
+     * @param type The method's return type
+     * @return The default value, boxed for primitives
+     */
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,73 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+/**
+ * Stand-in potion effect that answers amplifier and duration reads without a server behind it.
+ * Real effect types are looked up in the server's registry, so stand-ins have no type. Every PotionEffect
+ * constructor rejects a missing type, so stand-ins are instantiated through Objenesis without running one.
+ * The constructor below only exists because the compiler requires one; nothing calls it.
+ */
+public class StubPotionEffect extends PotionEffect {
+    private static final ObjectInstantiator<StubPotionEffect> INSTANTIATOR =
+        new ObjenesisStd().getInstantiatorOf(StubPotionEffect.class);
+    
+    private int duration;
+    private int amplifier;
+    
+    /**
+     * Constructor for StubPotionEffect, bypassed by {@link #create(int, int)}
+     * 
+     * @param type The effect type
+     */
+    private StubPotionEffect(PotionEffectType type) {
+        super(type, 0, 0);
+    }
+    
+    /**
+     * Creates a stand-in effect
+     * 
+     * @param duration The duration in ticks
+     * @param amplifier The amplifier, 0 for a level I effect
+     * @return The effect
+     */
+    public static StubPotionEffect create(int duration, int amplifier) {
+        StubPotionEffect effect = INSTANTIATOR.newInstance();
+        effect.duration = duration;
+        effect.amplifier = amplifier;
+        return effect;
+    }
+    
+    @Override
+    public PotionEffectType getType() {
+        return null;
+    }
+    
+    @Override
+    public int getDuration() {
+        return duration;
+    }
+    
+    @Override
+    public int getAmplifier() {
+        return amplifier;
+    }
+    
+    @Override
+    public PotionEffect withAmplifier(int amplifier) {
+        return create(duration, amplifier);
+    }
+    
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+}
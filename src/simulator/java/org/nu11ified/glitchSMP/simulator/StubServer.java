@@ -0,0 +1,165 @@
+package org.nu11ified.glitchSMP.simulator;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Creates a stand-in server that hands out the simulated scheduler, event bus and online players,
+ * and a stand-in plugin on top of it.
+ * Calls the plugin does not make outside the simulated paths return default values.
+ */
+public final class StubServer {
+    
+    /**
+     * Private constructor, this class only has static helpers
+     */
+    private StubServer() {
+    }
+    
+    /**
+     * Creates a stand-in server
+     * 
+     * @param scheduler The scheduler tasks are submitted to
+     * @param eventBus The bus listeners are registered with
+     * @param onlinePlayers The live collection of online players
+     * @param logger The server logger
+     * @return The server
+     */
+    public static Server create(SimScheduler scheduler, SimEventBus eventBus, Collection<Player> onlinePlayers, Logger logger) {
+        PluginManager pluginManager = createPluginManager(eventBus);
+        Collection<Player> playersView = Collections.unmodifiableCollection(onlinePlayers);
+        
+        return (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] {Server.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getScheduler":
+                    return scheduler.asBukkitScheduler();
+                case "getPluginManager":
+                    return pluginManager;
+                case "getOnlinePlayers":
+                    return playersView;
+                case "getPlayer":
+                    for (Player player : onlinePlayers) {
+                        if (args[0] instanceof UUID ? player.getUniqueId().equals(args[0]) : player.getName().equalsIgnoreCase(String.valueOf(args[0]))) {
+                            return player;
+                        }
+                    }
+                    return null;
+                case "getLogger":
+                    return logger;
+                case "getName":
+                    return "GlitchSMP-Simulator";
+                case "getVersion":
+                case "getBukkitVersion":
+                case "getMinecraftVersion":
+                    return "simulated";
+                case "isPrimaryThread":
+                    return true;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubServer";
+                default:
+                    return StubPlayers.defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Creates a stand-in plugin named GlitchSMP, for the components to own their tasks, listeners and keys with
+     * 
+     * @param server The server the plugin runs on
+     * @param dataFolder The folder the plugin's data would be kept in
+     * @return The plugin
+     */
+    public static Plugin createPlugin(Server server, File dataFolder) {
+        return (Plugin) Proxy.newProxyInstance(Plugin.class.getClassLoader(), new Class<?>[] {Plugin.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getName":
+                    return "GlitchSMP";
+                case "getServer":
+                    return server;
+                case "getLogger":
+                    return server.getLogger();
+                case "getDataFolder":
+                    return dataFolder;
+                case "isEnabled":
+                    return true;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubPlugin";
+                default:
+                    return StubPlayers.defaultValue(method.getReturnType());
+            }
+        });
+    }
+    
+    /**
+     * Makes a server the one returned by Bukkit's static accessors.
+     * Bukkit.setServer refuses to replace a server and needs build metadata a simulation does not have,
+     * so the field is set directly; the most recently installed server wins.
+     * 
+     * @param server The server
+     */
+    public static void install(Server server) {
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            field.set(null, server);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not install the stand-in server", e);
+        }
+    }
+    
+    /**
+     * Creates the plugin manager view, which forwards event registration and calls to the event bus
+     * 
+     * @param eventBus The event bus
+     * @return The plugin manager
+     */
+    @SuppressWarnings("unchecked")
+    private static PluginManager createPluginManager(SimEventBus eventBus) {
+        return (PluginManager) Proxy.newProxyInstance(PluginManager.class.getClassLoader(), new Class<?>[] {PluginManager.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "registerEvent":
+                    if (args.length == 6) {
+                        eventBus.register((Class<? extends Event>) args[0], (Listener) args[1], (EventPriority) args[2], (EventExecutor) args[3], (Boolean) args[5]);
+                        return null;
+                    }
+                    break;
+                case "callEvent":
+                    eventBus.call((Event) args[0]);
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubPluginManager";
+                default:
+                    break;
+            }
+            // Reflective registerEvents is PerfMonitor's job; keep performance monitoring enabled when simulating
+            throw new UnsupportedOperationException("PluginManager." + method.getName() + " is not simulated");
+        });
+    }
+}
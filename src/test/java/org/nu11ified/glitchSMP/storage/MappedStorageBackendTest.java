@@ -0,0 +1,151 @@
+package org.nu11ified.glitchSMP.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nu11ified.glitchSMP.glitch.GlitchType;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for MappedStorageBackend
+ */
+class MappedStorageBackendTest {
+    // Enough players to grow the initial 4096 slot table, kept half full, more than once
+    private static final int PLAYERS = 5000;
+
+    @TempDir
+    File directory;
+
+    /**
+     * Every record survives the table growing past its initial capacity, in batches as the data store writes them
+     */
+    @Test
+    void growsPastInitialCapacity() throws IOException {
+        MappedStorageBackend backend = new MappedStorageBackend(new File(directory, "players.dat"));
+        backend.open();
+        try {
+            saveInBatches(backend, 64);
+            assertAllLoad(backend);
+            assertNull(backend.load(UUID.randomUUID()));
+        } finally {
+            backend.close();
+        }
+    }
+
+    /**
+     * A grown file is read back completely by a new backend, and keeps growing after reopening
+     */
+    @Test
+    void reopensGrownFile() throws IOException {
+        File file = new File(directory, "players.dat");
+        MappedStorageBackend backend = new MappedStorageBackend(file);
+        backend.open();
+        saveInBatches(backend, 500);
+        backend.close();
+
+        MappedStorageBackend reopened = new MappedStorageBackend(file);
+        reopened.open();
+        try {
+            assertAllLoad(reopened);
+
+            // Overwriting an existing player keeps a single slot for them
+            reopened.save(List.of(record(0, 99)));
+            assertEquals(99, reopened.load(uuid(0)).getCraftedGlitchCount());
+
+            List<PlayerRecord> more = new ArrayList<>();
+            for (int i = PLAYERS; i < PLAYERS * 2; i++) {
+                more.add(record(i, i));
+            }
+            reopened.save(more);
+            for (int i = 1; i < PLAYERS * 2; i++) {
+                assertEquals(i, reopened.load(uuid(i)).getCraftedGlitchCount());
+            }
+        } finally {
+            reopened.close();
+        }
+    }
+
+    /**
+     * A file too short to hold a header is reported instead of being replaced
+     */
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        File file = new File(directory, "players.dat");
+        assertEquals(true, file.createNewFile());
+
+        assertThrows(IOException.class, () -> new MappedStorageBackend(file).open());
+        assertEquals(0, file.length());
+    }
+
+    /**
+     * Saves one record per test player
+     *
+     * @param backend The backend to save to
+     * @param batchSize The number of records per save call
+     * @throws IOException If a batch could not be written
+     */
+    private static void saveInBatches(MappedStorageBackend backend, int batchSize) throws IOException {
+        List<PlayerRecord> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < PLAYERS; i++) {
+            batch.add(record(i, i));
+            if (batch.size() == batchSize) {
+                backend.save(batch);
+                batch.clear();
+            }
+        }
+        backend.save(batch);
+    }
+
+    /**
+     * Checks that every test player loads with the data they were saved with
+     *
+     * @param backend The backend to load from
+     * @throws IOException If a record could not be read
+     */
+    private static void assertAllLoad(MappedStorageBackend backend) throws IOException {
+        GlitchType[] types = GlitchType.values();
+        for (int i = 0; i < PLAYERS; i++) {
+            PlayerRecord loaded = backend.load(uuid(i));
+            assertNotNull(loaded, "player " + i);
+            assertEquals(i, loaded.getCraftedGlitchCount());
+            assertEquals(EnumSet.of(types[i % types.length]), loaded.getOwnedGlitches());
+            assertEquals(List.of(types[i % types.length]), loaded.getEquippedGlitches());
+            assertEquals(i * 1000L, loaded.getLastActivationTime(types[i % types.length]));
+        }
+    }
+
+    /**
+     * Creates the record of a test player
+     *
+     * @param player The test player's number
+     * @param craftedCount The crafted glitch count to store
+     * @return The record
+     */
+    private static PlayerRecord record(int player, int craftedCount) {
+        GlitchType[] types = GlitchType.values();
+        GlitchType type = types[player % types.length];
+        long[] lastActivationTimes = new long[types.length];
+        lastActivationTimes[type.ordinal()] = player * 1000L;
+        return new PlayerRecord(uuid(player), EnumSet.of(type), List.of(type), craftedCount, lastActivationTimes);
+    }
+
+    /**
+     * Gets the UUID of a test player
+     *
+     * @param player The test player's number
+     * @return The UUID
+     */
+    private static UUID uuid(int player) {
+        return new UUID(0x5EED_0000_0000_0000L + player, ~(long) player * 0x9E3779B97F4A7C15L);
+    }
+}